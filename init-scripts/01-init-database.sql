@@ -12,8 +12,14 @@ CREATE SCHEMA IF NOT EXISTS public;
 SET timezone = 'America/Sao_Paulo';
 
 -- Criar tabela de jogos
+-- Particionada em dois níveis:
+--   1) por "arquivado" (LIST): jogos_ativos (quentes) e jogos_arquivo (frios)
+--   2) por data_hora_partida (RANGE): mensal nos ativos, anual no arquivo
+-- Jogos em andamento nunca são arquivados, então as consultas deles só
+-- tocam as partições pequenas de jogos_ativos. A chave primária precisa
+-- conter as colunas de particionamento.
 CREATE TABLE IF NOT EXISTS jogos (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     time_a VARCHAR(100) NOT NULL,
     time_b VARCHAR(100) NOT NULL,
     placar_a INTEGER NOT NULL DEFAULT 0,
@@ -21,8 +27,71 @@ CREATE TABLE IF NOT EXISTS jogos (
     status VARCHAR(20) NOT NULL DEFAULT 'EM_ANDAMENTO',
     data_hora_partida TIMESTAMP NOT NULL,
     data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    data_atualizacao TIMESTAMP
-);
+    data_atualizacao TIMESTAMP,
+    versao BIGINT NOT NULL DEFAULT 0,
+    arquivado BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, arquivado, data_hora_partida)
+) PARTITION BY LIST (arquivado);
+
+CREATE TABLE IF NOT EXISTS jogos_ativos PARTITION OF jogos
+    FOR VALUES IN (FALSE) PARTITION BY RANGE (data_hora_partida);
+CREATE TABLE IF NOT EXISTS jogos_arquivo PARTITION OF jogos
+    FOR VALUES IN (TRUE) PARTITION BY RANGE (data_hora_partida);
+
+-- Partições padrão: rede de segurança pra datas sem partição criada
+CREATE TABLE IF NOT EXISTS jogos_ativos_padrao PARTITION OF jogos_ativos DEFAULT;
+CREATE TABLE IF NOT EXISTS jogos_arquivo_padrao PARTITION OF jogos_arquivo DEFAULT;
+
+-- Criar função que garante as partições (chamada pela aplicação periodicamente)
+-- Ativos: uma partição por mês, do mês passado até N meses à frente
+-- Arquivo: uma partição por ano, do jogo ativo mais antigo até o ano atual
+CREATE OR REPLACE FUNCTION garantir_particoes_jogos(meses_a_frente INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    inicio DATE;
+    nome TEXT;
+    ano_inicial INTEGER;
+    criadas INTEGER := 0;
+BEGIN
+    FOR i IN -1..meses_a_frente LOOP
+        inicio := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        nome := 'jogos_ativos_' || to_char(inicio, 'YYYY_MM');
+        IF to_regclass(nome) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF jogos_ativos FOR VALUES FROM (%L) TO (%L)',
+                    nome, inicio, (inicio + INTERVAL '1 month')::DATE);
+                criadas := criadas + 1;
+            EXCEPTION WHEN OTHERS THEN
+                -- Normalmente: a partição padrão já tem linhas nesse intervalo
+                RAISE NOTICE 'Não foi possível criar a partição %: %', nome, SQLERRM;
+            END;
+        END IF;
+    END LOOP;
+
+    SELECT COALESCE(EXTRACT(YEAR FROM MIN(data_hora_partida)), EXTRACT(YEAR FROM CURRENT_DATE))::INTEGER
+        INTO ano_inicial FROM jogos_ativos;
+    FOR ano IN ano_inicial..EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER LOOP
+        nome := 'jogos_arquivo_' || ano;
+        IF to_regclass(nome) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF jogos_arquivo FOR VALUES FROM (%L) TO (%L)',
+                    nome, make_date(ano, 1, 1), make_date(ano + 1, 1, 1));
+                criadas := criadas + 1;
+            EXCEPTION WHEN OTHERS THEN
+                RAISE NOTICE 'Não foi possível criar a partição %: %', nome, SQLERRM;
+            END;
+        END IF;
+    END LOOP;
+
+    RETURN criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT garantir_particoes_jogos(3);
+
+-- Sequência dos IDs anda de 20 em 20: o Hibernate reserva um bloco
+-- de IDs por chamada (allocationSize = 20) e consegue agrupar os inserts
+ALTER SEQUENCE jogos_id_seq INCREMENT BY 20;
 
 -- Criar índices para performance
 CREATE INDEX IF NOT EXISTS idx_jogos_status ON jogos(status);
@@ -30,6 +99,19 @@ CREATE INDEX IF NOT EXISTS idx_jogos_data_hora ON jogos(data_hora_partida);
 CREATE INDEX IF NOT EXISTS idx_jogos_data_criacao ON jogos(data_criacao);
 CREATE INDEX IF NOT EXISTS idx_jogos_times ON jogos(time_a, time_b);
 
+-- Índices da paginação por chave (ORDER BY data_hora_partida DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_jogos_data_hora_id ON jogos(data_hora_partida DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jogos_status_data_hora_id ON jogos(status, data_hora_partida DESC, id DESC);
+
+-- Índices de trigramas (pg_trgm) da busca por nome de time: atendem
+-- ILIKE '%termo%' sem varrer a tabela, em qualquer posição do nome
+CREATE INDEX IF NOT EXISTS idx_jogos_time_a_trgm ON jogos USING gin (time_a gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jogos_time_b_trgm ON jogos USING gin (time_b gin_trgm_ops);
+
+-- Índice parcial só dos jogos em andamento (fica pequeno mesmo com anos de histórico)
+CREATE INDEX IF NOT EXISTS idx_jogos_em_andamento ON jogos(data_hora_partida DESC, id DESC)
+    WHERE status = 'EM_ANDAMENTO';
+
 -- Criar constraint de validação para placares
 ALTER TABLE jogos ADD CONSTRAINT chk_placar_nao_negativo 
     CHECK (placar_a >= 0 AND placar_b >= 0);
@@ -38,9 +120,12 @@ ALTER TABLE jogos ADD CONSTRAINT chk_placar_nao_negativo
 ALTER TABLE jogos ADD CONSTRAINT chk_status_valido 
     CHECK (status IN ('EM_ANDAMENTO', 'ENCERRADO'));
 
--- Criar constraint de validação para data da partida
-ALTER TABLE jogos ADD CONSTRAINT chk_data_partida_futura 
-    CHECK (data_hora_partida > CURRENT_TIMESTAMP - INTERVAL '1 day');
+-- Validação de data da partida fica na aplicação: um CHECK com CURRENT_TIMESTAMP
+-- é reavaliado em todo UPDATE e impediria arquivar (ou alterar) jogos antigos
+
+-- Jogo em andamento nunca vai pro arquivo
+ALTER TABLE jogos ADD CONSTRAINT chk_arquivo_somente_encerrados 
+    CHECK (NOT arquivado OR status = 'ENCERRADO');
 
 -- Criar função para atualizar timestamp de atualização
 CREATE OR REPLACE FUNCTION atualizar_timestamp_atualizacao()
@@ -52,18 +137,23 @@ END;
 $$ LANGUAGE plpgsql;
 
 -- Criar trigger para atualizar timestamp automaticamente
+-- Só dispara quando o UPDATE não preencheu data_atualizacao (a aplicação
+-- já manda o valor, então no caminho normal a função nem é chamada)
 DROP TRIGGER IF EXISTS trigger_atualizar_timestamp ON jogos;
 CREATE TRIGGER trigger_atualizar_timestamp
     BEFORE UPDATE ON jogos
     FOR EACH ROW
+    WHEN (NEW.data_atualizacao IS NOT DISTINCT FROM OLD.data_atualizacao
+          AND NEW.arquivado = OLD.arquivado)
     EXECUTE FUNCTION atualizar_timestamp_atualizacao();
 
 -- Criar função para validar se jogo pode ser atualizado
 CREATE OR REPLACE FUNCTION validar_atualizacao_jogo()
 RETURNS TRIGGER AS $$
 BEGIN
-    -- Não permitir atualização de jogo encerrado
-    IF OLD.status = 'ENCERRADO' AND NEW.status = 'ENCERRADO' THEN
+    -- Não permitir atualização de jogo encerrado (arquivar é permitido)
+    IF OLD.status = 'ENCERRADO' AND NEW.status = 'ENCERRADO'
+       AND NEW.arquivado = OLD.arquivado THEN
         RAISE EXCEPTION 'Não é possível atualizar jogo encerrado';
     END IF;
     
@@ -77,10 +167,12 @@ END;
 $$ LANGUAGE plpgsql;
 
 -- Criar trigger para validação
+-- O WHEN filtra antes de chamar a função: linhas válidas não pagam PL/pgSQL
 DROP TRIGGER IF EXISTS trigger_validar_atualizacao ON jogos;
 CREATE TRIGGER trigger_validar_atualizacao
     BEFORE UPDATE ON jogos
     FOR EACH ROW
+    WHEN (OLD.status = 'ENCERRADO' OR NEW.placar_a < 0 OR NEW.placar_b < 0)
     EXECUTE FUNCTION validar_atualizacao_jogo();
 
 -- Inserir dados de exemplo (opcional)
@@ -100,7 +192,8 @@ SELECT
     COUNT(CASE WHEN status = 'ENCERRADO' THEN 1 END) as jogos_encerrados,
     AVG(CASE WHEN status = 'ENCERRADO' THEN placar_a + placar_b END) as media_gols_por_jogo,
     MAX(CASE WHEN status = 'ENCERRADO' THEN placar_a + placar_b END) as maior_placar,
-    MIN(CASE WHEN status = 'ENCERRADO' THEN placar_a + placar_b END) as menor_placar
+    MIN(CASE WHEN status = 'ENCERRADO' THEN placar_a + placar_b END) as menor_placar,
+    COALESCE(SUM(CASE WHEN status = 'ENCERRADO' THEN placar_a + placar_b END), 0) as total_gols
 FROM jogos;
 
 -- Criar view para jogos em andamento
@@ -138,6 +231,18 @@ FROM jogos
 WHERE status = 'ENCERRADO'
 ORDER BY data_atualizacao DESC;
 
+-- Criar tabela de saída de eventos (transactional outbox)
+-- Os eventos pro RabbitMQ são gravados aqui na mesma transação do jogo;
+-- um relay em segundo plano publica com confirmação do broker e apaga.
+-- Evento de transação desfeita nunca chega aqui, e o caminho de escrita
+-- não espera o broker.
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id BIGSERIAL PRIMARY KEY,
+    routing_key VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Conceder permissões
 GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO futebol_user;
 GRANT ALL PRIVILEGES ON ALL SEQUENCES IN SCHEMA public TO futebol_user;
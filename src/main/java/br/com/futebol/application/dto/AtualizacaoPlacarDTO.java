@@ -25,6 +25,15 @@ public final class AtualizacaoPlacarDTO {
     @Min(value = 0, message = "Placar do time B não pode ser negativo")
     private Integer placarB;
 
+    /**
+     * Versão do jogo que o cliente viu por último (opcional).
+     *
+     * Se vier preenchida e o jogo já tiver sido alterado por outra
+     * pessoa, a atualização é recusada com conflito em vez de
+     * sobrescrever o placar dela.
+     */
+    private Long versao;
+
     /**
      * Construtor padrão.
      * 
@@ -87,11 +96,30 @@ public final class AtualizacaoPlacarDTO {
         this.placarB = placarB;
     }
 
+    /**
+     * Obtém a versão esperada do jogo.
+     * 
+     * @return Versão esperada ou null se o cliente não se importa
+     */
+    public Long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Define a versão esperada do jogo.
+     * 
+     * @param versao Versão esperada
+     */
+    public void setVersao(final Long versao) {
+        this.versao = versao;
+    }
+
     @Override
     public String toString() {
         return "AtualizacaoPlacarDTO{" +
                 "placarA=" + placarA +
                 ", placarB=" + placarB +
+                ", versao=" + versao +
                 '}';
     }
 }
@@ -0,0 +1,103 @@
+package br.com.futebol.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Cursor da paginação por chave da busca de jogos por time.
+ *
+ * A busca é ordenada por (relevância DESC, data_hora_partida DESC,
+ * id DESC), então o cursor guarda esses três valores do último
+ * jogo devolvido. Igual ao {@link CursorPaginacao}, pro cliente é
+ * só um texto opaco em Base64.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class CursorBusca {
+
+    private static final String SEPARADOR = "|";
+
+    /** Relevância do último jogo da página (real do PostgreSQL). */
+    private final float relevancia;
+
+    /** Data/hora da partida do último jogo da página. */
+    private final LocalDateTime dataHoraPartida;
+
+    /** ID do último jogo da página (desempate). */
+    private final Long id;
+
+    /**
+     * Construtor com a posição do último jogo.
+     *
+     * @param relevancia Relevância do último jogo
+     * @param dataHoraPartida Data/hora da partida do último jogo
+     * @param id ID do último jogo
+     */
+    public CursorBusca(final float relevancia, final LocalDateTime dataHoraPartida,
+            final Long id) {
+        this.relevancia = relevancia;
+        this.dataHoraPartida = dataHoraPartida;
+        this.id = id;
+    }
+
+    /**
+     * Converte o cursor para o texto opaco enviado ao cliente.
+     *
+     * @return Cursor codificado em Base64 (URL safe)
+     */
+    public String codificar() {
+        // Float.toString volta exatamente pro mesmo float no parse
+        String valor = relevancia + SEPARADOR + dataHoraPartida + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê um cursor recebido do cliente.
+     *
+     * @param cursor Texto opaco gerado por {@link #codificar()}
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static CursorBusca decodificar(final String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\" + SEPARADOR);
+            return new CursorBusca(Float.parseFloat(partes[0]),
+                    LocalDateTime.parse(partes[1]), Long.valueOf(partes[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    /**
+     * Obtém a relevância do último jogo.
+     *
+     * @return Relevância
+     */
+    public float getRelevancia() {
+        return relevancia;
+    }
+
+    /**
+     * Obtém a data/hora da partida do último jogo.
+     *
+     * @return Data/hora da partida
+     */
+    public LocalDateTime getDataHoraPartida() {
+        return dataHoraPartida;
+    }
+
+    /**
+     * Obtém o ID do último jogo.
+     *
+     * @return ID do jogo
+     */
+    public Long getId() {
+        return id;
+    }
+}
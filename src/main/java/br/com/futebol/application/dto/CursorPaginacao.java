@@ -0,0 +1,87 @@
+package br.com.futebol.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Cursor da paginação por chave (keyset) da listagem de jogos.
+ *
+ * Guarda a posição do último jogo devolvido na ordenação
+ * (data_hora_partida DESC, id DESC). Pro cliente é só um texto
+ * opaco em Base64, ele não precisa saber o que tem dentro.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class CursorPaginacao {
+
+    private static final String SEPARADOR = "|";
+
+    /** Data/hora da partida do último jogo da página. */
+    private final LocalDateTime dataHoraPartida;
+
+    /** ID do último jogo da página (desempate). */
+    private final Long id;
+
+    /**
+     * Construtor com a posição do último jogo.
+     *
+     * @param dataHoraPartida Data/hora da partida do último jogo
+     * @param id ID do último jogo
+     */
+    public CursorPaginacao(final LocalDateTime dataHoraPartida, final Long id) {
+        this.dataHoraPartida = dataHoraPartida;
+        this.id = id;
+    }
+
+    /**
+     * Converte o cursor para o texto opaco enviado ao cliente.
+     *
+     * @return Cursor codificado em Base64 (URL safe)
+     */
+    public String codificar() {
+        String valor = dataHoraPartida + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê um cursor recebido do cliente.
+     *
+     * @param cursor Texto opaco gerado por {@link #codificar()}
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static CursorPaginacao decodificar(final String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            int posicao = valor.lastIndexOf(SEPARADOR);
+            LocalDateTime data = LocalDateTime.parse(valor.substring(0, posicao));
+            Long id = Long.valueOf(valor.substring(posicao + 1));
+            return new CursorPaginacao(data, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    /**
+     * Obtém a data/hora da partida do último jogo.
+     *
+     * @return Data/hora da partida
+     */
+    public LocalDateTime getDataHoraPartida() {
+        return dataHoraPartida;
+    }
+
+    /**
+     * Obtém o ID do último jogo.
+     *
+     * @return ID do jogo
+     */
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.futebol.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+
+/**
+ * DTO com as estatísticas gerais dos jogos.
+ *
+ * Junta as contagens por status com as métricas de gols da view
+ * estatisticas_jogos (média, maior e menor placar dos jogos
+ * encerrados). É imutável: cada alteração gera um novo objeto.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class EstatisticasDTO {
+
+    /** Total de jogos cadastrados. */
+    private final long totalJogos;
+
+    /** Quantidade de jogos em andamento. */
+    private final long jogosEmAndamento;
+
+    /** Quantidade de jogos encerrados. */
+    private final long jogosEncerrados;
+
+    /** Soma dos gols de todos os jogos encerrados. */
+    private final long totalGols;
+
+    /** Maior placar (soma dos gols) entre os jogos encerrados. */
+    private final Integer maiorPlacar;
+
+    /** Menor placar (soma dos gols) entre os jogos encerrados. */
+    private final Integer menorPlacar;
+
+    /** Quando os números foram conferidos com o banco pela última vez. */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime dataReconciliacao;
+
+    /**
+     * Construtor com todos os campos.
+     *
+     * @param totalJogos Total de jogos
+     * @param jogosEmAndamento Jogos em andamento
+     * @param jogosEncerrados Jogos encerrados
+     * @param totalGols Soma dos gols dos jogos encerrados
+     * @param maiorPlacar Maior placar ou null se não houver encerrados
+     * @param menorPlacar Menor placar ou null se não houver encerrados
+     * @param dataReconciliacao Data da última conferência com o banco
+     */
+    public EstatisticasDTO(final long totalJogos, final long jogosEmAndamento,
+            final long jogosEncerrados, final long totalGols,
+            final Integer maiorPlacar, final Integer menorPlacar,
+            final LocalDateTime dataReconciliacao) {
+        this.totalJogos = totalJogos;
+        this.jogosEmAndamento = jogosEmAndamento;
+        this.jogosEncerrados = jogosEncerrados;
+        this.totalGols = totalGols;
+        this.maiorPlacar = maiorPlacar;
+        this.menorPlacar = menorPlacar;
+        this.dataReconciliacao = dataReconciliacao;
+    }
+
+    /**
+     * Obtém o total de jogos.
+     *
+     * @return Total de jogos
+     */
+    public long getTotalJogos() {
+        return totalJogos;
+    }
+
+    /**
+     * Obtém a quantidade de jogos em andamento.
+     *
+     * @return Jogos em andamento
+     */
+    public long getJogosEmAndamento() {
+        return jogosEmAndamento;
+    }
+
+    /**
+     * Obtém a quantidade de jogos encerrados.
+     *
+     * @return Jogos encerrados
+     */
+    public long getJogosEncerrados() {
+        return jogosEncerrados;
+    }
+
+    /**
+     * Obtém a soma dos gols dos jogos encerrados.
+     *
+     * @return Total de gols
+     */
+    public long getTotalGols() {
+        return totalGols;
+    }
+
+    /**
+     * Obtém a média de gols por jogo encerrado.
+     *
+     * @return Média de gols ou null se não houver jogos encerrados
+     */
+    public Double getMediaGolsPorJogo() {
+        return jogosEncerrados > 0 ? (double) totalGols / jogosEncerrados : null;
+    }
+
+    /**
+     * Obtém o maior placar entre os jogos encerrados.
+     *
+     * @return Maior soma de gols
+     */
+    public Integer getMaiorPlacar() {
+        return maiorPlacar;
+    }
+
+    /**
+     * Obtém o menor placar entre os jogos encerrados.
+     *
+     * @return Menor soma de gols
+     */
+    public Integer getMenorPlacar() {
+        return menorPlacar;
+    }
+
+    /**
+     * Obtém a data da última conferência com o banco.
+     *
+     * @return Data da reconciliação
+     */
+    public LocalDateTime getDataReconciliacao() {
+        return dataReconciliacao;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Total: %d | Em Andamento: %d | Encerrados: %d",
+                totalJogos, jogosEmAndamento, jogosEncerrados);
+    }
+}
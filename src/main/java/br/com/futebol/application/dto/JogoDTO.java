@@ -55,6 +55,9 @@ public class JogoDTO {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime dataAtualizacao;
 
+    /** Versão do registro (controle de concorrência otimista). */
+    private Long versao;
+
     /**
      * Construtor padrão.
      * 
@@ -82,6 +85,40 @@ public class JogoDTO {
         this.dataHoraPartida = dataHoraPartida;
     }
 
+    /**
+     * Construtor com todos os campos.
+     *
+     * Usado pelas consultas de projeção do repositório
+     * (SELECT new ...JogoDTO(...)), que montam o DTO direto
+     * do resultado sem passar pela entidade.
+     *
+     * @param id ID do jogo
+     * @param timeA Nome do primeiro time
+     * @param timeB Nome do segundo time
+     * @param placarA Placar do time A
+     * @param placarB Placar do time B
+     * @param status Status do jogo
+     * @param dataHoraPartida Data e hora da partida
+     * @param dataCriacao Data de criação
+     * @param dataAtualizacao Data da última atualização
+     * @param versao Versão do registro
+     */
+    public JogoDTO(final Long id, final String timeA, final String timeB,
+            final Integer placarA, final Integer placarB, final StatusJogo status,
+            final LocalDateTime dataHoraPartida, final LocalDateTime dataCriacao,
+            final LocalDateTime dataAtualizacao, final Long versao) {
+        this.id = id;
+        this.timeA = timeA;
+        this.timeB = timeB;
+        this.placarA = placarA;
+        this.placarB = placarB;
+        this.status = status;
+        this.dataHoraPartida = dataHoraPartida;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataAtualizacao;
+        this.versao = versao;
+    }
+
     // Getters e Setters - padrão Java Bean
 
     /**
@@ -246,6 +283,24 @@ public class JogoDTO {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    /**
+     * Obtém a versão do registro.
+     *
+     * @return Versão do jogo
+     */
+    public Long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Define a versão do registro.
+     *
+     * @param versao Versão do jogo
+     */
+    public void setVersao(final Long versao) {
+        this.versao = versao;
+    }
+
     /**
      * Obtém o resultado formatado da partida.
      *
@@ -0,0 +1,63 @@
+package br.com.futebol.application.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO que representa uma página de resultados.
+ *
+ * Carrega os itens da página atual e o cursor opaco que o
+ * cliente deve mandar de volta pra buscar a próxima página.
+ * Quando não tem mais nada pra buscar, o cursor vem nulo.
+ *
+ * @param <T> tipo dos itens da página
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class PaginaDTO<T> {
+
+    /** Itens da página atual. */
+    private final List<T> itens;
+
+    /** Cursor da próxima página (nulo quando é a última). */
+    private final String proximoCursor;
+
+    /**
+     * Construtor com todos os campos.
+     *
+     * @param itens Itens da página atual
+     * @param proximoCursor Cursor da próxima página ou null
+     */
+    public PaginaDTO(final List<T> itens, final String proximoCursor) {
+        this.itens = itens == null ? Collections.emptyList() : itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    /**
+     * Obtém os itens da página.
+     *
+     * @return Lista de itens
+     */
+    public List<T> getItens() {
+        return itens;
+    }
+
+    /**
+     * Obtém o cursor da próxima página.
+     *
+     * @return Cursor opaco ou null se esta for a última página
+     */
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    /**
+     * Verifica se existe uma próxima página.
+     *
+     * @return true se houver mais resultados
+     */
+    public boolean isPossuiMais() {
+        return proximoCursor != null;
+    }
+}
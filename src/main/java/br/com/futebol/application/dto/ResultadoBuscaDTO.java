@@ -0,0 +1,49 @@
+package br.com.futebol.application.dto;
+
+/**
+ * Um jogo encontrado na busca por time, junto com a relevância.
+ *
+ * A relevância é a maior similaridade de palavra (pg_trgm) entre
+ * o termo buscado e os nomes dos dois times, de 0 a 1.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class ResultadoBuscaDTO {
+
+    /** Jogo encontrado. */
+    private final JogoDTO jogo;
+
+    /** Relevância do jogo para o termo buscado. */
+    private final float relevancia;
+
+    /**
+     * Construtor com todos os campos.
+     *
+     * @param jogo Jogo encontrado
+     * @param relevancia Relevância do jogo
+     */
+    public ResultadoBuscaDTO(final JogoDTO jogo, final float relevancia) {
+        this.jogo = jogo;
+        this.relevancia = relevancia;
+    }
+
+    /**
+     * Obtém o jogo encontrado.
+     *
+     * @return Jogo
+     */
+    public JogoDTO getJogo() {
+        return jogo;
+    }
+
+    /**
+     * Obtém a relevância do jogo.
+     *
+     * @return Relevância entre 0 e 1
+     */
+    public float getRelevancia() {
+        return relevancia;
+    }
+}
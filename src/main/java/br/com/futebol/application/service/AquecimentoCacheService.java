@@ -0,0 +1,109 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.StatusJogo;
+import br.com.futebol.infrastructure.cache.RedisService;
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.repository.OrigemLeitura;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Aquece o cache quando a aplicação sobe.
+ *
+ * Depois de um deploy o L1 está vazio e o Redis pode ter perdido
+ * chaves; as primeiras requisições iriam todas no banco ao mesmo
+ * tempo. Aqui, antes de a aplicação começar a atender, vão pro cache
+ * todos os jogos em andamento (lidos do banco principal, que tem o
+ * placar mais novo) e os encerrados mais recentes (da réplica).
+ *
+ * A gravação não passa por cima de versão mais nova que já esteja no
+ * Redis e não avisa os outros servidores: nada mudou de verdade.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class AquecimentoCacheService {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AquecimentoCacheService.class);
+
+    /** Se o aquecimento roda na subida. */
+    private static final boolean HABILITADO = ConfiguracaoAplicacao.obterBooleano(
+            "cache.aquecimento.habilitado", true);
+
+    /** Quantos encerrados (os de partida mais recente) entram no aquecimento. */
+    private static final int MAX_ENCERRADOS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.aquecimento.encerrados", 500);
+
+    /** Jogos lidos e gravados por vez. */
+    private static final int TAMANHO_LOTE = 500;
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Cache Redis (e L1). */
+    @Inject
+    private RedisService redisService;
+
+    /**
+     * Aquece o cache na subida da aplicação.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (!HABILITADO) {
+            return;
+        }
+        if (!redisService.isDisponivel()) {
+            LOGGER.warn("Redis fora do ar, aquecimento do cache não vai rodar");
+            return;
+        }
+        try {
+            long inicio = System.currentTimeMillis();
+            int emAndamento = aquecer(StatusJogo.EM_ANDAMENTO, Integer.MAX_VALUE,
+                    OrigemLeitura.PRINCIPAL);
+            int encerrados = aquecer(StatusJogo.ENCERRADO, MAX_ENCERRADOS,
+                    OrigemLeitura.REPLICA);
+            LOGGER.info("Cache aquecido: {} jogos em andamento e {} encerrados em {}ms",
+                    emAndamento, encerrados, System.currentTimeMillis() - inicio);
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao aquecer o cache, seguindo sem: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Percorre os jogos do status, do mais recente pro mais antigo, em
+     * páginas (paginação por chave, sem OFFSET) e grava cada uma num
+     * pipeline.
+     *
+     * @return Quantidade de jogos gravados
+     */
+    private int aquecer(final StatusJogo status, final int maximo, final OrigemLeitura origem) {
+        int total = 0;
+        JogoDTO ultimo = null;
+        while (total < maximo) {
+            List<JogoDTO> pagina = jogoRepository.listarPagina(status, null, null,
+                    ultimo == null ? null : ultimo.getDataHoraPartida(),
+                    ultimo == null ? null : ultimo.getId(),
+                    Math.min(TAMANHO_LOTE, maximo - total), origem);
+            if (pagina.isEmpty()) {
+                break;
+            }
+            redisService.armazenarJogosSeMaisNovos(pagina);
+            total += pagina.size();
+            ultimo = pagina.get(pagina.size() - 1);
+        }
+        return total;
+    }
+}
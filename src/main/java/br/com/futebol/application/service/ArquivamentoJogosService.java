@@ -0,0 +1,129 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço que cuida das partições da tabela de jogos.
+ *
+ * Periodicamente garante que existam partições pros próximos
+ * meses e move os jogos encerrados mais antigos que a idade
+ * configurada pras partições de arquivo, deixando as partições
+ * ativas (e seus índices) pequenas.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class ArquivamentoJogosService {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArquivamentoJogosService.class);
+
+    /** Se a manutenção das partições está ligada. */
+    private static final boolean HABILITADO = ConfiguracaoAplicacao.obterBooleano(
+            "arquivamento.habilitado", true);
+
+    /** Intervalo entre as execuções, em horas. */
+    private static final int INTERVALO_HORAS = ConfiguracaoAplicacao.obterInteiro(
+            "arquivamento.intervalo_horas", 24);
+
+    /** Idade mínima (em dias) de um jogo encerrado pra ir pro arquivo. */
+    private static final int IDADE_DIAS = ConfiguracaoAplicacao.obterInteiro(
+            "arquivamento.idade_dias", 180);
+
+    /** Quantidade de jogos movidos por transação. */
+    private static final int TAMANHO_LOTE = ConfiguracaoAplicacao.obterInteiro(
+            "arquivamento.lote", 1000);
+
+    /** Quantos meses à frente devem ter partição pronta. */
+    private static final int MESES_A_FRENTE = ConfiguracaoAplicacao.obterInteiro(
+            "particionamento.meses_a_frente", 3);
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Executor gerenciado do servidor. */
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Tarefa agendada da manutenção. */
+    private ScheduledFuture<?> tarefa;
+
+    /**
+     * Agenda a manutenção quando a aplicação sobe.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (!HABILITADO || agendador == null) {
+            LOGGER.info("Manutenção de partições desabilitada");
+            return;
+        }
+        tarefa = agendador.scheduleWithFixedDelay(this::executarComSeguranca,
+                0, INTERVALO_HORAS, TimeUnit.HOURS);
+        LOGGER.info("Manutenção de partições agendada a cada {}h (arquivar encerrados com mais de {} dias)",
+                INTERVALO_HORAS, IDADE_DIAS);
+    }
+
+    /**
+     * Cria as partições que faltam e arquiva os jogos encerrados antigos.
+     *
+     * Cada lote roda na sua própria transação, então dá pra parar
+     * no meio sem perder o que já foi feito.
+     *
+     * @return Quantidade de jogos arquivados nesta execução
+     */
+    public int executar() {
+        int criadas = jogoRepository.garantirParticoes(MESES_A_FRENTE);
+        if (criadas > 0) {
+            LOGGER.info("{} partições de jogos criadas", criadas);
+        }
+
+        LocalDateTime limite = LocalDateTime.now().minusDays(IDADE_DIAS);
+        int total = 0;
+        int movidos;
+        do {
+            movidos = jogoRepository.arquivarEncerrados(limite, TAMANHO_LOTE);
+            total += movidos;
+        } while (movidos == TAMANHO_LOTE);
+
+        if (total > 0) {
+            LOGGER.info("{} jogos encerrados antes de {} movidos pro arquivo", total, limite);
+        }
+        return total;
+    }
+
+    /**
+     * Cancela a manutenção agendada.
+     */
+    @PreDestroy
+    public void destruir() {
+        if (tarefa != null) {
+            tarefa.cancel(false);
+        }
+    }
+
+    private void executarComSeguranca() {
+        try {
+            executar();
+        } catch (Exception e) {
+            LOGGER.warn("Erro na manutenção de partições: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.application.dto.EstatisticasDTO;
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço que mantém as estatísticas dos jogos em memória.
+ *
+ * Em vez de rodar três COUNT no banco a cada requisição, os
+ * contadores são ajustados quando um jogo é criado, encerrado
+ * ou removido (sempre depois do commit). De tempos em tempos
+ * os números são conferidos com a view estatisticas_jogos, o
+ * que corrige qualquer diferença que tenha escapado.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class EstatisticasJogosService {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EstatisticasJogosService.class);
+
+    /** Intervalo entre as conferências com o banco, em segundos. */
+    private static final int INTERVALO_RECONCILIACAO_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "estatisticas.reconciliacao_segundos", 60);
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Ajuda a aplicar as alterações só depois do commit. */
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    /** Executor gerenciado do servidor usado na reconciliação periódica. */
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Trava das alterações nos contadores. */
+    private final Object trava = new Object();
+
+    /** Estado atual; só é alterado dentro da trava. */
+    private long totalJogos;
+    private long jogosEmAndamento;
+    private long jogosEncerrados;
+    private long totalGols;
+    private Integer maiorPlacar;
+    private Integer menorPlacar;
+    private LocalDateTime dataReconciliacao;
+
+    /** Foto imutável do estado, lida sem trava pelo endpoint. */
+    private volatile EstatisticasDTO retrato;
+
+    /** Tarefa agendada da reconciliação. */
+    private ScheduledFuture<?> tarefaReconciliacao;
+
+    /**
+     * Agenda a reconciliação periódica quando a aplicação sobe.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (agendador == null) {
+            LOGGER.warn("Executor agendado indisponível, estatísticas só serão conferidas sob demanda");
+            return;
+        }
+        tarefaReconciliacao = agendador.scheduleWithFixedDelay(this::reconciliarComSeguranca,
+                0, INTERVALO_RECONCILIACAO_SEGUNDOS, TimeUnit.SECONDS);
+        LOGGER.info("Reconciliação das estatísticas agendada a cada {}s",
+                INTERVALO_RECONCILIACAO_SEGUNDOS);
+    }
+
+    /**
+     * Obtém as estatísticas atuais.
+     *
+     * Normalmente só devolve a foto que já está em memória; vai ao
+     * banco apenas na primeira chamada, se a reconciliação ainda
+     * não tiver rodado.
+     *
+     * @return Estatísticas dos jogos
+     */
+    public EstatisticasDTO obterEstatisticas() {
+        EstatisticasDTO atual = retrato;
+        if (atual == null) {
+            reconciliar();
+            atual = retrato;
+        }
+        return atual;
+    }
+
+    /**
+     * Registra jogos criados (depois do commit).
+     *
+     * @param quantidade Quantidade de jogos criados
+     */
+    public void registrarCriacao(final int quantidade) {
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            synchronized (trava) {
+                totalJogos += quantidade;
+                jogosEmAndamento += quantidade;
+                publicarRetrato();
+            }
+        });
+    }
+
+    /**
+     * Registra o encerramento de um jogo (depois do commit).
+     *
+     * @param placarA Placar final do time A
+     * @param placarB Placar final do time B
+     */
+    public void registrarEncerramento(final int placarA, final int placarB) {
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            synchronized (trava) {
+                int gols = placarA + placarB;
+                jogosEmAndamento--;
+                jogosEncerrados++;
+                totalGols += gols;
+                maiorPlacar = maiorPlacar == null ? gols : Math.max(maiorPlacar, gols);
+                menorPlacar = menorPlacar == null ? gols : Math.min(menorPlacar, gols);
+                publicarRetrato();
+            }
+        });
+    }
+
+    /**
+     * Registra a remoção de um jogo (depois do commit).
+     *
+     * Se o jogo removido estava encerrado, o maior e o menor
+     * placar podem ter mudado e não dá pra saber sem olhar o
+     * banco, então agenda uma reconciliação na hora.
+     *
+     * @param encerrado Se o jogo removido estava encerrado
+     * @param placarA Placar do time A do jogo removido
+     * @param placarB Placar do time B do jogo removido
+     */
+    public void registrarRemocao(final boolean encerrado, final int placarA, final int placarB) {
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            synchronized (trava) {
+                totalJogos--;
+                if (encerrado) {
+                    jogosEncerrados--;
+                    totalGols -= placarA + placarB;
+                } else {
+                    jogosEmAndamento--;
+                }
+                publicarRetrato();
+            }
+            if (encerrado && agendador != null) {
+                agendador.execute(this::reconciliarComSeguranca);
+            }
+        });
+    }
+
+    /**
+     * Confere os contadores com a view estatisticas_jogos.
+     */
+    public void reconciliar() {
+        EstatisticasDTO banco = jogoRepository.obterResumoEstatisticas();
+        synchronized (trava) {
+            totalJogos = banco.getTotalJogos();
+            jogosEmAndamento = banco.getJogosEmAndamento();
+            jogosEncerrados = banco.getJogosEncerrados();
+            totalGols = banco.getTotalGols();
+            maiorPlacar = banco.getMaiorPlacar();
+            menorPlacar = banco.getMenorPlacar();
+            dataReconciliacao = LocalDateTime.now();
+            publicarRetrato();
+        }
+        LOGGER.debug("Estatísticas reconciliadas com o banco: {}", banco);
+    }
+
+    /**
+     * Cancela a reconciliação agendada.
+     */
+    @PreDestroy
+    public void destruir() {
+        if (tarefaReconciliacao != null) {
+            tarefaReconciliacao.cancel(false);
+        }
+    }
+
+    private void reconciliarComSeguranca() {
+        try {
+            reconciliar();
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao reconciliar estatísticas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gera uma nova foto imutável do estado. Chamar dentro da trava.
+     *
+     * Antes da primeira reconciliação os contadores não valem nada,
+     * então não publica; a reconciliação vai ler tudo do banco.
+     */
+    private void publicarRetrato() {
+        if (dataReconciliacao == null) {
+            return;
+        }
+        retrato = new EstatisticasDTO(totalJogos, jogosEmAndamento, jogosEncerrados,
+                totalGols, maiorPlacar, menorPlacar, dataReconciliacao);
+    }
+}
@@ -0,0 +1,247 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.infrastructure.cache.FiltroIds;
+import br.com.futebol.infrastructure.cache.OuvinteInvalidacao;
+import br.com.futebol.infrastructure.cache.RedisService;
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro em memória dos IDs de jogos que existem.
+ *
+ * Serve pra responder "não existe" sem ir no banco quando alguém
+ * consulta um ID apagado ou inventado. É montado a partir do banco
+ * na subida e de tempos em tempos, recebe os jogos criados aqui
+ * depois do commit e os criados em outros servidores pelos avisos
+ * do canal de invalidação do Redis.
+ *
+ * Só é usado enquanto a escuta desses avisos está de pé e já foi
+ * remontado depois dela (re)começar: sem isso, um jogo criado em
+ * outro servidor poderia ser dado como inexistente. Fora dessas
+ * condições, todo ID "pode existir" e a consulta segue o caminho
+ * normal (cache negativo, banco).
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class FiltroIdsService implements OuvinteInvalidacao {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FiltroIdsService.class);
+
+    /** Se o filtro está ligado. */
+    private static final boolean HABILITADO = ConfiguracaoAplicacao.obterBooleano(
+            "filtro_ids.habilitado", true);
+
+    /** Intervalo entre as remontagens, em minutos (pega aviso que se perdeu). */
+    private static final int INTERVALO_MINUTOS = ConfiguracaoAplicacao.obterInteiro(
+            "filtro_ids.reconstrucao_minutos", 30);
+
+    /**
+     * Por quanto tempo um ID recém-registrado é reaplicado nas
+     * remontagens: cobre o jogo cujo commit ainda não tinha sido visto
+     * pela varredura do banco.
+     */
+    private static final long RETENCAO_RECENTES_MS = TimeUnit.MINUTES.toMillis(10);
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Cache Redis (de onde vêm os avisos de outros servidores). */
+    @Inject
+    private RedisService redisService;
+
+    /** Ajuda a só registrar jogos que foram mesmo gravados. */
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    /** Executor gerenciado do servidor. */
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Filtro em uso. */
+    private volatile FiltroIds filtro = new FiltroIds();
+
+    /** Se o filtro pode dizer "não existe". */
+    private volatile boolean confiavel;
+
+    /** Muda a cada queda da escuta; remontagem que pegou uma queda no meio não vale. */
+    private final AtomicLong geracao = new AtomicLong();
+
+    /** Uma remontagem por vez. */
+    private final AtomicBoolean remontando = new AtomicBoolean();
+
+    /** IDs registrados recentemente -> quando (reaplicados em cada remontagem). */
+    private final Map<Long, Long> recentes = new ConcurrentHashMap<>();
+
+    /** Consultas que o filtro respondeu sem ir no cache negativo nem no banco. */
+    private final LongAdder descartados = new LongAdder();
+
+    /** Tarefa agendada da remontagem. */
+    private ScheduledFuture<?> tarefa;
+
+    /**
+     * Começa a ouvir os avisos e agenda a remontagem (a primeira na hora).
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (!HABILITADO || agendador == null) {
+            LOGGER.info("Filtro de IDs de jogos desabilitado");
+            return;
+        }
+        redisService.registrarOuvinte(this);
+        tarefa = agendador.scheduleWithFixedDelay(this::remontarComSeguranca,
+                0, INTERVALO_MINUTOS, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Diz se o jogo pode existir.
+     *
+     * @return false só quando é certo que o ID não existe
+     */
+    public boolean podeExistir(final Long jogoId) {
+        if (!confiavel || jogoId == null || filtro.contem(jogoId)) {
+            return true;
+        }
+        descartados.increment();
+        return false;
+    }
+
+    /**
+     * Registra jogos criados (depois do commit).
+     */
+    public void registrarCriados(final Collection<Long> jogoIds) {
+        if (!HABILITADO) {
+            return;
+        }
+        List<Long> copia = new ArrayList<>(jogoIds);
+        sincronizacaoTransacao.executarAposCommit(() -> copia.forEach(this::adicionar));
+    }
+
+    /**
+     * Tira um jogo removido do filtro (depois do commit).
+     */
+    public void registrarRemovido(final Long jogoId) {
+        if (!HABILITADO) {
+            return;
+        }
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            recentes.remove(jogoId);
+            filtro.remover(jogoId);
+        });
+    }
+
+    /**
+     * Remonta o filtro a partir do banco.
+     *
+     * Os IDs registrados durante a varredura (ou pouco antes, com o
+     * commit ainda não visível) são reaplicados antes e depois da
+     * troca, então nenhum jogo novo fica de fora.
+     */
+    public void remontar() {
+        if (!remontando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long geracaoInicial = geracao.get();
+            boolean escutando = redisService.isEscutaAtiva();
+
+            FiltroIds novo = new FiltroIds();
+            long[] total = {0};
+            jogoRepository.percorrerIds(id -> {
+                novo.adicionar(id);
+                total[0]++;
+            });
+
+            long limite = System.currentTimeMillis() - RETENCAO_RECENTES_MS;
+            recentes.values().removeIf(quando -> quando < limite);
+            recentes.keySet().forEach(novo::adicionar);
+            filtro = novo;
+            recentes.keySet().forEach(novo::adicionar);
+
+            confiavel = escutando && geracao.get() == geracaoInicial && redisService.isEscutaAtiva();
+            LOGGER.info("Filtro de IDs remontado: {} jogos, {} KB{}", total[0],
+                    novo.getTamanhoBytes() / 1024, confiavel ? "" : " (sem avisos do Redis, não usado)");
+        } finally {
+            remontando.set(false);
+        }
+    }
+
+    /**
+     * Números do filtro, pras estatísticas do cache.
+     */
+    public Map<String, Object> obterEstatisticas() {
+        return Map.of(
+                "filtroIds.confiavel", confiavel,
+                "filtroIds.descartados", descartados.sum(),
+                "filtroIds.bytes", filtro.getTamanhoBytes());
+    }
+
+    @Override
+    public void jogoAlterado(final Long jogoId) {
+        // Pode ser criação, alteração ou remoção: na dúvida, "pode existir"
+        adicionar(jogoId);
+    }
+
+    @Override
+    public void escutaIniciada() {
+        // Avisos podem ter se perdido enquanto a escuta estava fora
+        if (agendador != null) {
+            agendador.execute(this::remontarComSeguranca);
+        }
+    }
+
+    @Override
+    public void escutaInterrompida() {
+        geracao.incrementAndGet();
+        confiavel = false;
+    }
+
+    /**
+     * Cancela a remontagem agendada.
+     */
+    @PreDestroy
+    public void destruir() {
+        if (tarefa != null) {
+            tarefa.cancel(false);
+        }
+    }
+
+    private void adicionar(final Long jogoId) {
+        recentes.put(jogoId, System.currentTimeMillis());
+        filtro.adicionar(jogoId);
+    }
+
+    private void remontarComSeguranca() {
+        try {
+            remontar();
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao remontar filtro de IDs: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice em memória dos nomes de times, pro autocompletar.
+ *
+ * Cada nome entra no índice pelo nome inteiro e por cada palavra
+ * dele, normalizados (minúsculo e sem acento), então "atl" e "min"
+ * acham "Atlético Mineiro". A busca por prefixo é um subMap no
+ * mapa ordenado, sem ir ao banco. O índice é montado na subida
+ * da aplicação e recebe os times novos depois do commit de cada
+ * criação; times que deixam de existir só somem no próximo restart.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class IndiceTimesService {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndiceTimesService.class);
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Ajuda a só indexar times de jogos que foram mesmo gravados. */
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    /** Chave normalizada (nome inteiro ou a partir de uma palavra) -> nomes originais. */
+    private final ConcurrentSkipListMap<String, Set<String>> indice = new ConcurrentSkipListMap<>();
+
+    /**
+     * Monta o índice com os times que já estão no banco.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        try {
+            List<String> nomes = jogoRepository.listarNomesTimes();
+            nomes.forEach(this::indexar);
+            LOGGER.info("Índice de autocompletar montado com {} times", nomes.size());
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao montar índice de times, autocompletar começa vazio: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Registra os times de jogos criados (depois do commit).
+     *
+     * @param nomes Nomes dos times
+     */
+    public void registrarTimes(final Collection<String> nomes) {
+        List<String> copia = new ArrayList<>(nomes);
+        sincronizacaoTransacao.executarAposCommit(() -> copia.forEach(this::indexar));
+    }
+
+    /**
+     * Sugere nomes de times que começam com o prefixo informado.
+     *
+     * O prefixo é comparado com o começo do nome e de cada palavra,
+     * sem diferenciar maiúsculas nem acentos.
+     *
+     * @param prefixo Começo do nome digitado
+     * @param limite Quantidade máxima de sugestões
+     * @return Nomes encontrados, em ordem alfabética da parte que casou
+     */
+    public List<String> sugerir(final String prefixo, final int limite) {
+        String chave = normalizar(prefixo);
+        if (chave.isEmpty() || limite < 1) {
+            return List.of();
+        }
+        NavigableMap<String, Set<String>> faixa =
+                indice.subMap(chave, true, chave + Character.MAX_VALUE, false);
+        Set<String> sugestoes = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<String>> entrada : faixa.entrySet()) {
+            for (String nome : entrada.getValue()) {
+                sugestoes.add(nome);
+                if (sugestoes.size() >= limite) {
+                    return new ArrayList<>(sugestoes);
+                }
+            }
+        }
+        return new ArrayList<>(sugestoes);
+    }
+
+    private void indexar(final String nome) {
+        if (nome == null || nome.isBlank()) {
+            return;
+        }
+        String normalizado = normalizar(nome);
+        adicionar(normalizado, nome.trim());
+        for (int i = 1; i < normalizado.length(); i++) {
+            if (normalizado.charAt(i - 1) == ' ' && normalizado.charAt(i) != ' ') {
+                adicionar(normalizado.substring(i), nome.trim());
+            }
+        }
+    }
+
+    private void adicionar(final String chave, final String nome) {
+        indice.computeIfAbsent(chave, k -> ConcurrentHashMap.newKeySet()).add(nome);
+    }
+
+    /**
+     * Deixa o texto minúsculo, sem acento e com espaços simples.
+     */
+    private static String normalizar(final String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcento = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return semAcento.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+}
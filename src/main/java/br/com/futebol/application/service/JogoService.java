@@ -1,14 +1,26 @@
 package br.com.futebol.application.service;
 
 import br.com.futebol.application.dto.AtualizacaoPlacarDTO;
+import br.com.futebol.application.dto.CursorBusca;
+import br.com.futebol.application.dto.CursorPaginacao;
+import br.com.futebol.application.dto.EstatisticasDTO;
 import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.application.dto.PaginaDTO;
+import br.com.futebol.application.dto.ResultadoBuscaDTO;
 import br.com.futebol.domain.entity.Jogo;
+import br.com.futebol.domain.enums.LadoPlacar;
 import br.com.futebol.domain.enums.StatusJogo;
+import br.com.futebol.infrastructure.cache.CarregamentoUnico;
 import br.com.futebol.infrastructure.cache.RedisService;
+import br.com.futebol.infrastructure.messaging.OutboxEventos;
 import br.com.futebol.infrastructure.messaging.RabbitMQService;
+import br.com.futebol.infrastructure.messaging.RelayOutbox;
 import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.repository.OrigemLeitura;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -16,9 +28,17 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço principal que cuida de tudo relacionado aos jogos de futebol.
@@ -37,18 +57,64 @@ public class JogoService {
     /** Logger para esta classe. */
     private static final Logger LOGGER = LoggerFactory.getLogger(JogoService.class);
 
+    /** Limite máximo de jogos por página (performance.max_results). */
+    private static final int MAX_RESULTADOS = ConfiguracaoAplicacao.obterInteiro(
+            "performance.max_results", 1000);
+
+    /** Tamanho mínimo do termo da busca por time (um trigrama). */
+    private static final int TAMANHO_MINIMO_BUSCA = 3;
+
+    /** Ordem da lista de jogos em andamento: partida mais recente primeiro. */
+    private static final Comparator<JogoDTO> ORDEM_PARTIDA = Comparator
+            .comparing(JogoDTO::getDataHoraPartida, 
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(JogoDTO::getId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .reversed();
+
+    /** Tamanho padrão da página da busca por time. */
+    private static final int LIMITE_PADRAO_BUSCA = ConfiguracaoAplicacao.obterInteiro(
+            "busca.limite_padrao", 20);
+
     /** Repositório de jogos. */
     @Inject
     private JogoRepository jogoRepository;
 
-    /** Serviço de mensageria RabbitMQ. */
+    /** Outbox dos eventos (publicados no RabbitMQ depois do commit). */
+    @Inject
+    private OutboxEventos outboxEventos;
+
+    /** Publicação no RabbitMQ (aqui só pras estatísticas). */
     @Inject
     private RabbitMQService rabbitMQService;
 
+    /** Relay do outbox (aqui só pras estatísticas). */
+    @Inject
+    private RelayOutbox relayOutbox;
+
     /** Serviço de cache Redis. */
     @Inject
     private RedisService redisService;
 
+    /** Estatísticas dos jogos mantidas em memória. */
+    @Inject
+    private EstatisticasJogosService estatisticasJogosService;
+
+    /** Índice em memória dos nomes de times (autocompletar). */
+    @Inject
+    private IndiceTimesService indiceTimesService;
+
+    /** Painel ao vivo dos jogos em andamento (Redis). */
+    @Inject
+    private PainelAoVivoService painelAoVivoService;
+
+    /** Filtro dos IDs que existem (corta consulta de ID inexistente). */
+    @Inject
+    private FiltroIdsService filtroIdsService;
+
+    /** Junta as cargas simultâneas do mesmo jogo quando ele não está no cache. */
+    private final CarregamentoUnico<Long, Optional<JogoDTO>> carregamentos = 
+            new CarregamentoUnico<>();
+
     /**
      * Construtor padrão para CDI
      * 
@@ -65,9 +131,9 @@ public class JogoService {
      * Uso esse quando o CDI dá problema e preciso criar a instância
      * na mão, passando as dependências explicitamente.
      */
-    public JogoService(JogoRepository jogoRepository, RabbitMQService rabbitMQService, RedisService redisService) {
+    public JogoService(JogoRepository jogoRepository, OutboxEventos outboxEventos, RedisService redisService) {
         this.jogoRepository = jogoRepository;
-        this.rabbitMQService = rabbitMQService;
+        this.outboxEventos = outboxEventos;
         this.redisService = redisService;
         LOGGER.info("JogoService inicializado manualmente com dependências");
     }
@@ -76,7 +142,8 @@ public class JogoService {
      * Cria um novo jogo.
      * 
      * Método principal que faz toda a mágica: valida os dados,
-     * salva no banco, publica evento e guarda no cache.
+     * salva no banco, grava o evento no outbox (mesma transação)
+     * e guarda no cache.
      * É aqui que um jogo "nasce" no sistema.
      * 
      * @param jogoDTO DTO com os dados do jogo a ser criado
@@ -89,42 +156,29 @@ public class JogoService {
             LOGGER.info("Criando novo jogo: {} vs {}", jogoDTO.getTimeA(), 
                     jogoDTO.getTimeB());
 
-            // Validações de negócio
-            if (jogoDTO.getTimeA().equals(jogoDTO.getTimeB())) {
-                throw new IllegalArgumentException("Times A e B não podem ser iguais");
-            }
-            
-            // Validação de data com margem de tolerância
-            // Uso 5 minutos pra evitar problemas de sincronização de relógio
-            // e forço o timezone de Brasília pra não dar confusão
-            ZoneId brasiliaZone = ZoneId.of("America/Sao_Paulo");
-            LocalDateTime agora = LocalDateTime.now(brasiliaZone);
-            LocalDateTime margemTolerancia = agora.minusMinutes(5);
-            
-            if (jogoDTO.getDataHoraPartida().isBefore(margemTolerancia)) {
-                throw new IllegalArgumentException("Data da partida deve ser pelo menos 5 minutos no futuro");
-            }
+            validarNovoJogo(jogoDTO);
 
             Jogo jogo = new Jogo(jogoDTO.getTimeA(), jogoDTO.getTimeB(), 
                     jogoDTO.getDataHoraPartida());
             jogo = jogoRepository.salvar(jogo);
 
             JogoDTO jogoCriado = converterParaDTO(jogo);
+            estatisticasJogosService.registrarCriacao(1);
+            indiceTimesService.registrarTimes(List.of(jogo.getTimeA(), jogo.getTimeB()));
 
-            // Publicar evento de criação
-            try {
-                rabbitMQService.publicarJogoCriado(jogoCriado);
-            } catch (Exception e) {
-                LOGGER.warn("Erro ao publicar evento RabbitMQ, continuando...", e);
-            }
+            // Evento de criação vai pro outbox, no mesmo commit do jogo
+            outboxEventos.registrarJogoCriado(jogoCriado);
 
             // Guardar no cache pra consultas rápidas
             try {
-                redisService.armazenarJogo(jogoCriado);
+                redisService.armazenarJogosCriados(List.of(jogoCriado));
+                painelAoVivoService.adicionar(List.of(jogoCriado));
             } catch (Exception e) {
                 LOGGER.warn("Erro ao armazenar no cache Redis, continuando...", e);
             }
 
+            filtroIdsService.registrarCriados(List.of(jogo.getId()));
+
             LOGGER.info("Jogo criado com sucesso: ID {}", jogo.getId());
             return jogoCriado;
             
@@ -137,18 +191,84 @@ public class JogoService {
         }
     }
 
+    /**
+     * Cria vários jogos de uma vez (uma rodada ou temporada inteira).
+     * 
+     * <p>Valida a lista toda antes de gravar qualquer coisa e insere
+     * tudo numa única transação, em lotes JDBC. Depois do insert grava
+     * os eventos de criação no outbox num único INSERT e faz uma única
+     * escrita em pipeline no Redis, em vez de N idas e vindas.</p>
+     * 
+     * @param jogosDTO Lista com os dados dos jogos a serem criados
+     * @return Lista dos jogos criados, na mesma ordem, com IDs gerados
+     * @throws IllegalArgumentException se algum jogo for inválido
+     */
+    @Transactional
+    public List<JogoDTO> criarJogos(final List<JogoDTO> jogosDTO) {
+        if (jogosDTO == null || jogosDTO.isEmpty()) {
+            throw new IllegalArgumentException("Lista de jogos não pode ser vazia");
+        }
+        if (jogosDTO.size() > MAX_RESULTADOS) {
+            throw new IllegalArgumentException("Lote excede o máximo de " 
+                    + MAX_RESULTADOS + " jogos");
+        }
+
+        LOGGER.info("Criando lote de {} jogos", jogosDTO.size());
+
+        List<Jogo> jogos = new ArrayList<>(jogosDTO.size());
+        for (int i = 0; i < jogosDTO.size(); i++) {
+            JogoDTO jogoDTO = jogosDTO.get(i);
+            try {
+                validarNovoJogo(jogoDTO);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Jogo #" + (i + 1) + ": " 
+                        + e.getMessage(), e);
+            }
+            jogos.add(new Jogo(jogoDTO.getTimeA(), jogoDTO.getTimeB(), 
+                    jogoDTO.getDataHoraPartida()));
+        }
+
+        List<JogoDTO> jogosCriados = jogoRepository.salvarTodos(jogos).stream()
+                .map(this::converterParaDTO)
+                .collect(Collectors.toList());
+        estatisticasJogosService.registrarCriacao(jogosCriados.size());
+        indiceTimesService.registrarTimes(jogos.stream()
+                .flatMap(jogo -> Stream.of(jogo.getTimeA(), jogo.getTimeB()))
+                .collect(Collectors.toSet()));
+
+        outboxEventos.registrarJogosCriados(jogosCriados);
+
+        List<Long> idsCriados = jogosCriados.stream()
+                .map(JogoDTO::getId)
+                .collect(Collectors.toList());
+
+        try {
+            redisService.armazenarJogosCriados(jogosCriados);
+            painelAoVivoService.adicionar(jogosCriados);
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao armazenar lote no cache Redis, continuando...", e);
+        }
+        filtroIdsService.registrarCriados(idsCriados);
+
+        LOGGER.info("Lote de {} jogos criado com sucesso", jogosCriados.size());
+        return jogosCriados;
+    }
+
     /**
      * Atualiza o placar de um jogo.
      * 
      * Método usado quando alguém marca um gol ou quer corrigir
-     * o placar. Verifica se o jogo existe e não acabou, depois
-     * atualiza tudo e avisa o sistema.
+     * o placar. É o caminho mais quente do sistema em dia de
+     * clássico, então faz tudo num único UPDATE condicional no
+     * banco (sem ler o jogo antes). Só quando nada foi atualizado
+     * é que busca o jogo pra descobrir o motivo.
      * 
      * @param jogoId ID do jogo
      * @param placarDTO DTO com os novos placares
      * @return DTO do jogo atualizado
      * @throws IllegalArgumentException se o jogo não for encontrado
      * @throws IllegalStateException se o jogo estiver encerrado
+     * @throws OptimisticLockException se a versão informada estiver desatualizada
      */
     @Transactional
     public JogoDTO atualizarPlacar(final Long jogoId, 
@@ -157,35 +277,30 @@ public class JogoService {
             LOGGER.info("Atualizando placar do jogo {}: {} x {}", jogoId, 
                     placarDTO.getPlacarA(), placarDTO.getPlacarB());
 
-            Optional<Jogo> jogoOpt = jogoRepository.buscarPorId(jogoId);
+            Optional<Jogo> jogoOpt = jogoRepository.atualizarPlacar(jogoId, 
+                    placarDTO.getPlacarA(), placarDTO.getPlacarB(), 
+                    placarDTO.getVersao());
             if (jogoOpt.isEmpty()) {
-                throw new IllegalArgumentException("Jogo não encontrado com ID: " + 
-                        jogoId);
+                Jogo atual = jogoRepository.buscarPorId(jogoId)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Jogo não encontrado com ID: " + jogoId));
+                if (atual.isEncerrado()) {
+                    throw new IllegalStateException(
+                            "Não é possível atualizar placar de jogo encerrado");
+                }
+                throw new OptimisticLockException("Placar do jogo " + jogoId 
+                        + " foi alterado por outra requisição (versão atual: " 
+                        + atual.getVersao() + ")");
             }
 
-            Jogo jogo = jogoOpt.get();
-            if (jogo.isEncerrado()) {
-                throw new IllegalStateException(
-                        "Não é possível atualizar placar de jogo encerrado");
-            }
-
-            jogo.atualizarPlacar(placarDTO.getPlacarA(), placarDTO.getPlacarB());
-            jogo = jogoRepository.atualizar(jogo);
-
-            JogoDTO jogoAtualizado = converterParaDTO(jogo);
+            JogoDTO jogoAtualizado = converterParaDTO(jogoOpt.get());
 
-            // Publicar evento
-            try {
-                rabbitMQService.publicarPlacarAtualizado(jogoAtualizado);
-            } catch (Exception e) {
-                LOGGER.warn("Erro ao publicar evento RabbitMQ, continuando...", e);
-            }
+            // Evento vai pro outbox; o broker fica fora do caminho do placar
+            outboxEventos.registrarPlacarAtualizado(jogoAtualizado);
 
-            // Atualizar cache
+            // Atualizar cache (só os campos do placar no hash do jogo)
             try {
-                redisService.armazenarPlacar(jogoId, placarDTO.getPlacarA(), 
-                        placarDTO.getPlacarB());
-                redisService.armazenarJogo(jogoAtualizado);
+                redisService.atualizarPlacar(jogoAtualizado);
             } catch (Exception e) {
                 LOGGER.warn("Erro ao atualizar cache Redis, continuando...", e);
             }
@@ -194,7 +309,8 @@ public class JogoService {
                     jogoId, placarDTO.getPlacarA(), placarDTO.getPlacarB());
             return jogoAtualizado;
             
-        } catch (IllegalArgumentException | IllegalStateException e) {
+        } catch (IllegalArgumentException | IllegalStateException 
+                | OptimisticLockException e) {
             LOGGER.warn("Erro de validação ao atualizar placar: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
@@ -203,11 +319,52 @@ public class JogoService {
         }
     }
 
+    /**
+     * Registra um gol de um dos times.
+     * 
+     * Diferente do {@link #atualizarPlacar}, o cliente não manda o
+     * placar: o banco soma 1 no lado certo e o Redis faz HINCRBY no
+     * mesmo campo. Dois gols informados ao mesmo tempo contam os dois,
+     * sem precisar de versão nem de tentar de novo.
+     * 
+     * @param jogoId ID do jogo
+     * @param lado Time que marcou
+     * @return DTO do jogo com o placar novo
+     * @throws IllegalArgumentException se o jogo não for encontrado
+     * @throws IllegalStateException se o jogo estiver encerrado
+     */
+    @Transactional
+    public JogoDTO marcarGol(final Long jogoId, final LadoPlacar lado) {
+        LOGGER.info("Gol do {} no jogo {}", lado, jogoId);
+
+        Optional<Jogo> jogoOpt = jogoRepository.registrarGol(jogoId, lado);
+        if (jogoOpt.isEmpty()) {
+            Jogo atual = jogoRepository.buscarPorId(jogoId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Jogo não encontrado com ID: " + jogoId));
+            if (atual.isEncerrado()) {
+                throw new IllegalStateException(
+                        "Não é possível atualizar placar de jogo encerrado");
+            }
+            throw new IllegalStateException("Jogo " + jogoId + " não pode receber gol");
+        }
+
+        JogoDTO jogoAtualizado = converterParaDTO(jogoOpt.get());
+        outboxEventos.registrarPlacarAtualizado(jogoAtualizado);
+
+        try {
+            redisService.registrarGol(jogoAtualizado, lado);
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao atualizar cache Redis, continuando...", e);
+        }
+        return jogoAtualizado;
+    }
+
     /**
      * Encerra um jogo.
      * 
-     * <p>Altera o status do jogo para ENCERRADO e publica
-     * evento de encerramento.</p>
+     * <p>Altera o status do jogo para ENCERRADO e grava o
+     * evento de encerramento no outbox.</p>
      * 
      * @param jogoId ID do jogo a ser encerrado
      * @return DTO do jogo encerrado
@@ -233,12 +390,15 @@ public class JogoService {
         jogo = jogoRepository.atualizar(jogo);
 
         JogoDTO jogoEncerrado = converterParaDTO(jogo);
+        estatisticasJogosService.registrarEncerramento(jogo.getPlacarA(), 
+                jogo.getPlacarB());
 
-        // Publicar evento
-        rabbitMQService.publicarJogoEncerrado(jogoEncerrado);
+        // Evento vai pro outbox
+        outboxEventos.registrarJogoEncerrado(jogoEncerrado);
 
-        // Atualizar cache
+        // Atualizar cache e tirar do painel ao vivo
         redisService.armazenarJogo(jogoEncerrado);
+        painelAoVivoService.remover(List.of(jogoId));
 
         LOGGER.info("Jogo encerrado com sucesso: ID {}", jogoId);
         return jogoEncerrado;
@@ -247,8 +407,11 @@ public class JogoService {
     /**
      * Busca um jogo por ID.
      * 
-     * <p>Primeiro tenta buscar do cache Redis, se não encontrar
-     * busca do banco de dados e armazena no cache.</p>
+     * <p>Primeiro tenta buscar do cache Redis. Se não encontrar, só
+     * uma carga por jogo vai no banco: requisições simultâneas neste
+     * servidor esperam a mesma carga, e entre servidores uma trava
+     * curta no Redis faz os outros esperarem o jogo aparecer no cache
+     * em vez de irem todos no banco quando a chave expira.</p>
      * 
      * @param jogoId ID do jogo
      * @return Optional contendo o DTO do jogo ou vazio se não encontrado
@@ -261,50 +424,235 @@ public class JogoService {
             return jogoCache;
         }
 
-        // Se não estiver no cache, buscar do banco
-        Optional<Jogo> jogoOpt = jogoRepository.buscarPorId(jogoId);
-        if (jogoOpt.isPresent()) {
+        // ID que com certeza não existe nem chega na carga
+        if (!filtroIdsService.podeExistir(jogoId)) {
+            return Optional.empty();
+        }
+
+        return carregamentos.carregar(jogoId, () -> carregarJogo(jogoId));
+    }
+
+    /**
+     * Carrega um jogo do banco e guarda no cache, com a trava de carga.
+     * 
+     * <p>Lê da réplica (se estiver em dia). Jogo em andamento é relido
+     * do principal antes de ir pro cache: o placar de uma réplica
+     * atrasada ficaria preso no Redis até a próxima escrita. A
+     * gravação não passa por cima de versão mais nova que já esteja
+     * no cache.</p>
+     */
+    private Optional<JogoDTO> carregarJogo(final Long jogoId) {
+        // Alguém já procurou esse ID no banco há pouco e não achou
+        if (redisService.estaAusente(jogoId)) {
+            return Optional.empty();
+        }
+
+        Optional<String> trava = redisService.travarCarga(jogoId);
+        if (trava.isEmpty()) {
+            Optional<JogoDTO> carregadoPorOutro = redisService.aguardarCarga(jogoId);
+            if (carregadoPorOutro.isPresent()) {
+                return carregadoPorOutro;
+            }
+            // Outro servidor demorou demais: carrega daqui mesmo
+        }
+        try {
+            Optional<Jogo> jogoOpt = jogoRepository.buscarPorId(jogoId, 
+                    OrigemLeitura.REPLICA);
+            if (jogoOpt.isPresent() && !jogoOpt.get().isEncerrado()) {
+                jogoOpt = jogoRepository.buscarPorId(jogoId);
+            }
+            if (jogoOpt.isEmpty()) {
+                redisService.marcarAusente(jogoId);
+                return Optional.empty();
+            }
             JogoDTO jogoDTO = converterParaDTO(jogoOpt.get());
-            // Armazenar no cache para próximas consultas
-            redisService.armazenarJogo(jogoDTO);
+            redisService.armazenarJogosSeMaisNovos(List.of(jogoDTO));
             return Optional.of(jogoDTO);
+        } finally {
+            trava.ifPresent(codigo -> redisService.liberarCarga(jogoId, codigo));
         }
-
-        return Optional.empty();
     }
 
     /**
      * Lista todos os jogos.
      * 
-     * @return Lista com todos os jogos convertidos para DTOs
+     * <p>Devolve no máximo {@code performance.max_results} jogos
+     * (os mais recentes). Pra percorrer tudo, use
+     * {@link #listarPagina}.</p>
+     * 
+     * @return Lista com os jogos convertidos para DTOs
      */
     public List<JogoDTO> listarTodos() {
-        List<Jogo> jogos = jogoRepository.listarTodos();
-        return jogos.stream()
-                .map(this::converterParaDTO)
+        return listarPagina(null, null, null, null, null).getItens();
+    }
+
+    /**
+     * Lista uma página de jogos, do mais recente pro mais antigo.
+     * 
+     * <p>Usa paginação por chave: o cursor aponta pro último jogo
+     * da página anterior, então cada página custa o mesmo pro
+     * banco, não importa o quão longe o cliente já foi. Busca
+     * um jogo a mais que o limite só pra saber se existe próxima
+     * página. Lê da réplica quando ela estiver em dia.</p>
+     * 
+     * @param status Filtro de status (opcional)
+     * @param inicio Início do período (opcional)
+     * @param fim Fim do período (opcional)
+     * @param limite Tamanho da página; null usa o máximo permitido
+     * @param cursor Cursor recebido na página anterior (opcional)
+     * @return Página com os jogos e o cursor da próxima página
+     * @throws IllegalArgumentException se o limite ou o cursor forem inválidos
+     */
+    public PaginaDTO<JogoDTO> listarPagina(final StatusJogo status,
+            final LocalDateTime inicio, final LocalDateTime fim,
+            final Integer limite, final String cursor) {
+        if (limite != null && limite < 1) {
+            throw new IllegalArgumentException("Limite deve ser maior que zero");
+        }
+        int tamanhoPagina = limite == null ? MAX_RESULTADOS 
+                : Math.min(limite, MAX_RESULTADOS);
+
+        CursorPaginacao posicao = cursor == null || cursor.isEmpty() ? null 
+                : CursorPaginacao.decodificar(cursor);
+
+        List<JogoDTO> jogos = jogoRepository.listarPagina(status, inicio, fim,
+                posicao != null ? posicao.getDataHoraPartida() : null,
+                posicao != null ? posicao.getId() : null,
+                tamanhoPagina + 1, OrigemLeitura.REPLICA);
+
+        String proximoCursor = null;
+        if (jogos.size() > tamanhoPagina) {
+            jogos = jogos.subList(0, tamanhoPagina);
+            JogoDTO ultimo = jogos.get(tamanhoPagina - 1);
+            proximoCursor = new CursorPaginacao(ultimo.getDataHoraPartida(), 
+                    ultimo.getId()).codificar();
+        }
+
+        return new PaginaDTO<>(jogos, proximoCursor);
+    }
+
+    /**
+     * Busca jogos pelo nome de um dos times.
+     * 
+     * <p>Os jogos vêm do mais relevante pro menos (o quanto o termo
+     * parece com o nome do time A ou B), desempatando pelos mais
+     * recentes. A paginação é por chave, igual à listagem: o cursor
+     * aponta pro último jogo da página anterior.</p>
+     * 
+     * @param termo Parte do nome do time (pelo menos 3 caracteres)
+     * @param limite Tamanho da página; null usa busca.limite_padrao
+     * @param cursor Cursor recebido na página anterior (opcional)
+     * @return Página com os jogos encontrados e o cursor da próxima
+     * @throws IllegalArgumentException se o termo, o limite ou o cursor forem inválidos
+     */
+    public PaginaDTO<JogoDTO> buscarPorTime(final String termo, 
+            final Integer limite, final String cursor) {
+        String texto = termo == null ? "" : termo.trim();
+        if (texto.length() < TAMANHO_MINIMO_BUSCA) {
+            throw new IllegalArgumentException("Termo de busca deve ter pelo menos " 
+                    + TAMANHO_MINIMO_BUSCA + " caracteres");
+        }
+        if (limite != null && limite < 1) {
+            throw new IllegalArgumentException("Limite deve ser maior que zero");
+        }
+        int tamanhoPagina = Math.min(limite == null ? LIMITE_PADRAO_BUSCA : limite, 
+                MAX_RESULTADOS);
+
+        CursorBusca posicao = cursor == null || cursor.isEmpty() ? null 
+                : CursorBusca.decodificar(cursor);
+
+        List<ResultadoBuscaDTO> resultados = jogoRepository.buscarPorTime(texto,
+                posicao != null ? posicao.getRelevancia() : null,
+                posicao != null ? posicao.getDataHoraPartida() : null,
+                posicao != null ? posicao.getId() : null,
+                tamanhoPagina + 1, OrigemLeitura.REPLICA);
+
+        String proximoCursor = null;
+        if (resultados.size() > tamanhoPagina) {
+            resultados = resultados.subList(0, tamanhoPagina);
+            ResultadoBuscaDTO ultimo = resultados.get(tamanhoPagina - 1);
+            proximoCursor = new CursorBusca(ultimo.getRelevancia(), 
+                    ultimo.getJogo().getDataHoraPartida(), 
+                    ultimo.getJogo().getId()).codificar();
+        }
+
+        List<JogoDTO> jogos = resultados.stream()
+                .map(ResultadoBuscaDTO::getJogo)
                 .collect(Collectors.toList());
+        return new PaginaDTO<>(jogos, proximoCursor);
+    }
+
+    /**
+     * Sugere nomes de times pro autocompletar, sem ir ao banco.
+     * 
+     * @param prefixo Começo do nome (ou de uma palavra do nome)
+     * @param limite Quantidade máxima de sugestões; null usa busca.limite_padrao
+     * @return Nomes de times encontrados
+     */
+    public List<String> sugerirTimes(final String prefixo, final Integer limite) {
+        int quantidade = limite == null || limite < 1 ? LIMITE_PADRAO_BUSCA 
+                : Math.min(limite, MAX_RESULTADOS);
+        return indiceTimesService.sugerir(prefixo, quantidade);
+    }
+
+    /**
+     * Percorre todos os jogos sem carregar tudo em memória.
+     * 
+     * <p>Cada jogo é convertido pra DTO e entregue pro consumidor
+     * assim que sai do banco. Usado na exportação, onde a lista
+     * completa pode ter milhões de linhas.</p>
+     * 
+     * @param consumidor Quem recebe cada jogo, na ordem do mais recente pro mais antigo
+     */
+    public void exportarTodos(final Consumer<JogoDTO> consumidor) {
+        jogoRepository.percorrerTodos(jogo -> consumidor.accept(converterParaDTO(jogo)));
     }
 
     /**
      * Lista jogos por status específico.
      * 
+     * <p>Leitura pura: o repositório já devolve os DTOs prontos,
+     * sem carregar entidades.</p>
+     * 
      * @param status Status dos jogos a serem listados
      * @return Lista de jogos com o status especificado
      */
     public List<JogoDTO> listarPorStatus(final StatusJogo status) {
-        List<Jogo> jogos = jogoRepository.listarPorStatus(status);
-        return jogos.stream()
-                .map(this::converterParaDTO)
-                .collect(Collectors.toList());
+        return jogoRepository.listarDTOPorStatus(status);
     }
 
     /**
      * Lista todos os jogos em andamento.
      * 
+     * <p>Os IDs vêm do painel ao vivo no Redis e os jogos do Redis/L1,
+     * que recebem cada placar novo; normalmente o banco nem é
+     * consultado. Sem painel (Redis fora ou desligado), os IDs vêm do
+     * banco (a lista de IDs não muda a cada gol e fica em cache).</p>
+     * 
+     * <p>O painel pode ter por alguns instantes um jogo que acabou de
+     * ser encerrado: ele é filtrado aqui pelo status e tirado do
+     * painel.</p>
+     * 
      * @return Lista de jogos em andamento
      */
     public List<JogoDTO> listarEmAndamento() {
-        return listarPorStatus(StatusJogo.EM_ANDAMENTO);
+        List<Long> ids = painelAoVivoService.idsEmAndamento()
+                .orElseGet(() -> jogoRepository.listarIdsPorStatus(StatusJogo.EM_ANDAMENTO));
+
+        List<JogoDTO> emAndamento = new ArrayList<>(ids.size());
+        List<Long> foraDoPainel = new ArrayList<>();
+        for (JogoDTO jogo : montarDoCache(ids)) {
+            if (jogo.getStatus() == StatusJogo.EM_ANDAMENTO) {
+                emAndamento.add(jogo);
+            } else {
+                foraDoPainel.add(jogo.getId());
+            }
+        }
+        if (!foraDoPainel.isEmpty()) {
+            painelAoVivoService.remover(foraDoPainel);
+        }
+        emAndamento.sort(ORDEM_PARTIDA);
+        return emAndamento;
     }
 
     /**
@@ -325,10 +673,7 @@ public class JogoService {
      */
     public List<JogoDTO> listarPorPeriodo(final LocalDateTime inicio, 
             final LocalDateTime fim) {
-        List<Jogo> jogos = jogoRepository.listarPorPeriodo(inicio, fim);
-        return jogos.stream()
-                .map(this::converterParaDTO)
-                .collect(Collectors.toList());
+        return jogoRepository.listarDTOPorPeriodo(inicio, fim);
     }
 
     /**
@@ -343,32 +688,123 @@ public class JogoService {
     public void removerJogo(final Long jogoId) {
         LOGGER.info("Removendo jogo: {}", jogoId);
 
-        if (!jogoRepository.existePorId(jogoId)) {
-            throw new IllegalArgumentException("Jogo não encontrado com ID: " + 
-                    jogoId);
+        if (!filtroIdsService.podeExistir(jogoId)) {
+            throw new IllegalArgumentException("Jogo não encontrado com ID: " + jogoId);
         }
 
-        jogoRepository.remover(jogoId);
+        Jogo removido = jogoRepository.remover(jogoId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Jogo não encontrado com ID: " + jogoId));
+
+        estatisticasJogosService.registrarRemocao(removido.isEncerrado(), 
+                removido.getPlacarA(), removido.getPlacarB());
 
-        // Remover do cache
+        // Remover do cache e do painel ao vivo
         redisService.removerJogo(jogoId);
+        painelAoVivoService.remover(List.of(jogoId));
+        filtroIdsService.registrarRemovido(jogoId);
 
         LOGGER.info("Jogo removido com sucesso: ID {}", jogoId);
     }
 
+    /**
+     * Aplica as regras de negócio de criação de jogo.
+     * 
+     * @param jogoDTO Dados do jogo a ser criado
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    private void validarNovoJogo(final JogoDTO jogoDTO) {
+        if (jogoDTO.getTimeA() == null || jogoDTO.getTimeB() == null 
+                || jogoDTO.getDataHoraPartida() == null) {
+            throw new IllegalArgumentException("Times e data da partida são obrigatórios");
+        }
+
+        if (jogoDTO.getTimeA().equals(jogoDTO.getTimeB())) {
+            throw new IllegalArgumentException("Times A e B não podem ser iguais");
+        }
+        
+        // Validação de data com margem de tolerância
+        // Uso 5 minutos pra evitar problemas de sincronização de relógio
+        // e forço o timezone de Brasília pra não dar confusão
+        ZoneId brasiliaZone = ZoneId.of("America/Sao_Paulo");
+        LocalDateTime agora = LocalDateTime.now(brasiliaZone);
+        LocalDateTime margemTolerancia = agora.minusMinutes(5);
+        
+        if (jogoDTO.getDataHoraPartida().isBefore(margemTolerancia)) {
+            throw new IllegalArgumentException("Data da partida deve ser pelo menos 5 minutos no futuro");
+        }
+    }
+
     /**
      * Obtém estatísticas dos jogos.
      * 
-     * @return String formatada com estatísticas dos jogos
+     * <p>Os números vêm da memória (mantidos pelo
+     * {@link EstatisticasJogosService}), não do banco.</p>
+     * 
+     * @return Contagens por status e métricas de gols
      */
-    public String obterEstatisticas() {
-        long total = jogoRepository.contarTotal();
-        long emAndamento = jogoRepository.contarPorStatus(
-                StatusJogo.EM_ANDAMENTO);
-        long encerrados = jogoRepository.contarPorStatus(StatusJogo.ENCERRADO);
-
-        return String.format("Total: %d | Em Andamento: %d | Encerrados: %d", 
-                total, emAndamento, encerrados);
+    public EstatisticasDTO obterEstatisticas() {
+        return estatisticasJogosService.obterEstatisticas();
+    }
+
+    /**
+     * Obtém os acertos e faltas de todas as camadas de cache.
+     * 
+     * @return Taxa de acerto do L1 e do Redis, mais os contadores por
+     *         região do cache de segundo nível do Hibernate
+     */
+    public Map<String, Object> obterEstatisticasCache() {
+        Map<String, Object> resultado = new LinkedHashMap<>(
+                redisService.obterEstatisticasCamadas());
+        resultado.put("carga.execucoes", carregamentos.getCarregamentos());
+        resultado.put("carga.aproveitadas", carregamentos.getAproveitados());
+        resultado.putAll(filtroIdsService.obterEstatisticas());
+        jogoRepository.obterEstatisticasCache()
+                .forEach((chave, valor) -> resultado.put("hibernate." + chave, valor));
+        return resultado;
+    }
+
+    /**
+     * Obtém os números da publicação no RabbitMQ.
+     * 
+     * @return Disjuntor, canais do pool, confirmações do broker
+     *         (em voo, negadas, republicadas e percentis de latência)
+     *         e eventos de placar juntados pelo relay
+     */
+    public Map<String, Object> obterEstatisticasMensageria() {
+        Map<String, Object> resultado = new LinkedHashMap<>(rabbitMQService.obterEstatisticas());
+        resultado.putAll(relayOutbox.obterEstatisticas());
+        return resultado;
+    }
+
+    /**
+     * Monta a lista de jogos a partir dos IDs, usando o cache.
+     * 
+     * <p>Uma chamada pro cache (L1 + um pipeline no Redis) pra lista toda;
+     * o que faltar vem do banco numa consulta só e volta pro Redis
+     * num pipeline (sem passar por cima de placar mais novo). A ordem
+     * dos IDs é mantida.</p>
+     * 
+     * @param ids IDs na ordem desejada
+     * @return Jogos encontrados, na mesma ordem
+     */
+    private List<JogoDTO> montarDoCache(final List<Long> ids) {
+        Map<Long, JogoDTO> jogos = new HashMap<>(redisService.recuperarJogos(ids));
+
+        List<Long> faltando = ids.stream()
+                .filter(id -> !jogos.containsKey(id))
+                .collect(Collectors.toList());
+        if (!faltando.isEmpty()) {
+            List<JogoDTO> doBanco = jogoRepository.listarDTOPorIds(faltando);
+            doBanco.forEach(jogo -> jogos.put(jogo.getId(), jogo));
+            redisService.armazenarJogosSeMaisNovos(doBanco);
+            LOGGER.debug("{} de {} jogos vieram do banco", doBanco.size(), ids.size());
+        }
+
+        return ids.stream()
+                .map(jogos::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -391,6 +827,7 @@ public class JogoService {
         dto.setDataHoraPartida(jogo.getDataHoraPartida());
         dto.setDataCriacao(jogo.getDataCriacao());
         dto.setDataAtualizacao(jogo.getDataAtualizacao());
+        dto.setVersao(jogo.getVersao());
         return dto;
     }
 }
@@ -0,0 +1,180 @@
+package br.com.futebol.application.service;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.StatusJogo;
+import br.com.futebol.infrastructure.cache.RedisService;
+import br.com.futebol.infrastructure.repository.JogoRepository;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço do painel ao vivo: a lista de jogos em andamento no Redis.
+ *
+ * O painel é um sorted set com os IDs dos jogos em andamento,
+ * ordenado pelo início da partida. Criar, encerrar e remover jogo
+ * mexem nele depois do commit (transação desfeita não deixa jogo
+ * fantasma nem some com jogo do painel); a listagem de jogos em
+ * andamento lê os IDs dali e os jogos do cache, sem passar pelo banco.
+ *
+ * Como o Redis pode perder escrita (ficou fora, reiniciou), de
+ * tempos em tempos o painel é comparado com o banco e corrigido.
+ *
+ * @author Eu mesmo (desenvolvedor)
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@ApplicationScoped
+public class PainelAoVivoService {
+
+    /** Logger para esta classe. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PainelAoVivoService.class);
+
+    /** Se o painel no Redis está ligado (desligado, a listagem vai no banco). */
+    private static final boolean HABILITADO = ConfiguracaoAplicacao.obterBooleano(
+            "painel.habilitado", true);
+
+    /** Intervalo entre as correções do painel, em segundos. */
+    private static final int INTERVALO_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "painel.reconstrucao_segundos", 60);
+
+    /** Repositório de jogos. */
+    @Inject
+    private JogoRepository jogoRepository;
+
+    /** Cache Redis, onde fica o painel. */
+    @Inject
+    private RedisService redisService;
+
+    /** Pra mexer no painel só depois do commit. */
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    /** Executor gerenciado do servidor. */
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Tarefa agendada da correção. */
+    private ScheduledFuture<?> tarefa;
+
+    /**
+     * Agenda a correção periódica quando a aplicação sobe (a primeira
+     * roda na hora, pra montar o painel se ele não existir).
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (!HABILITADO || agendador == null) {
+            LOGGER.info("Painel ao vivo no Redis desabilitado");
+            return;
+        }
+        tarefa = agendador.scheduleWithFixedDelay(this::reconstruirComSeguranca,
+                0, INTERVALO_SEGUNDOS, TimeUnit.SECONDS);
+        LOGGER.info("Painel ao vivo corrigido a cada {}s", INTERVALO_SEGUNDOS);
+    }
+
+    /**
+     * IDs dos jogos em andamento, da partida mais recente pra mais antiga.
+     *
+     * @return IDs do painel ou vazio se o painel estiver desligado,
+     *         vazio ou fora do ar (aí quem chama vai no banco)
+     */
+    public Optional<List<Long>> idsEmAndamento() {
+        return HABILITADO ? redisService.listarPainel() : Optional.empty();
+    }
+
+    /**
+     * Põe no painel os jogos (só os em andamento entram), depois do commit.
+     */
+    public void adicionar(final Collection<JogoDTO> jogos) {
+        if (HABILITADO) {
+            List<JogoDTO> copia = List.copyOf(jogos);
+            sincronizacaoTransacao.executarAposCommit(() -> redisService.adicionarAoPainel(copia));
+        }
+    }
+
+    /**
+     * Tira jogos do painel (encerrados ou removidos), depois do commit.
+     */
+    public void remover(final Collection<Long> jogoIds) {
+        if (HABILITADO) {
+            List<Long> copia = List.copyOf(jogoIds);
+            sincronizacaoTransacao.executarAposCommit(() -> redisService.removerDoPainel(copia));
+        }
+    }
+
+    /**
+     * Compara o painel com o banco e corrige as diferenças.
+     *
+     * Não troca o painel inteiro: um jogo criado depois da consulta
+     * sumiria até a próxima rodada. Adiciona o que falta e só tira o
+     * que sobra depois de confirmar no banco que o jogo não está mais
+     * em andamento.
+     *
+     * @return Quantidade de jogos adicionados ou removidos
+     */
+    public int reconstruir() {
+        Set<Long> noBanco = new HashSet<>(jogoRepository.listarIdsPorStatus(StatusJogo.EM_ANDAMENTO));
+        Set<Long> noPainel = new HashSet<>(redisService.listarPainel().orElse(List.of()));
+
+        List<Long> faltando = new ArrayList<>(noBanco);
+        faltando.removeAll(noPainel);
+        if (!faltando.isEmpty()) {
+            redisService.adicionarAoPainel(jogoRepository.listarDTOPorIds(faltando));
+        }
+
+        List<Long> sobrando = new ArrayList<>(noPainel);
+        sobrando.removeAll(noBanco);
+        if (!sobrando.isEmpty()) {
+            Set<Long> aindaEmAndamento = jogoRepository.listarDTOPorIds(sobrando).stream()
+                    .filter(jogo -> jogo.getStatus() == StatusJogo.EM_ANDAMENTO)
+                    .map(JogoDTO::getId)
+                    .collect(Collectors.toSet());
+            sobrando.removeAll(aindaEmAndamento);
+            redisService.removerDoPainel(sobrando);
+        }
+
+        int corrigidos = faltando.size() + sobrando.size();
+        if (corrigidos > 0) {
+            LOGGER.info("Painel ao vivo corrigido: {} jogos adicionados, {} removidos",
+                    faltando.size(), sobrando.size());
+        }
+        return corrigidos;
+    }
+
+    /**
+     * Cancela a correção agendada.
+     */
+    @PreDestroy
+    public void destruir() {
+        if (tarefa != null) {
+            tarefa.cancel(false);
+        }
+    }
+
+    private void reconstruirComSeguranca() {
+        try {
+            reconstruir();
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao corrigir painel ao vivo: {}", e.getMessage());
+        }
+    }
+}
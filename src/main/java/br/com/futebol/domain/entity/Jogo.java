@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -21,11 +23,30 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "jogos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Jogo.REGIAO_CACHE)
 public final class Jogo {
 
-    /** Identificador único do jogo. */
+    /**
+     * Região do cache de segundo nível dos jogos.
+     *
+     * Jogos encerrados nunca mudam, então ficam no cache até serem
+     * despejados; jogos em andamento saem do cache a cada alteração.
+     */
+    public static final String REGIAO_CACHE = "jogo";
+
+    /**
+     * Identificador único do jogo.
+     *
+     * Vem da sequência jogos_id_seq com alocação em blocos de 20
+     * (otimizador pooled). Com IDENTITY o Hibernate precisava fazer
+     * um insert por vez pra descobrir o ID, o que desligava o
+     * hibernate.jdbc.batch_size. O allocationSize tem que ser igual
+     * ao INCREMENT BY da sequência no banco.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jogos_id_gen")
+    @SequenceGenerator(name = "jogos_id_gen", sequenceName = "jogos_id_seq", allocationSize = 20)
     @Column(name = "id")
     private Long id;
 
@@ -67,6 +88,19 @@ public final class Jogo {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    /** Versão do registro, usada no controle de concorrência otimista. */
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    /**
+     * Se o jogo já foi movido pras partições frias (arquivo).
+     *
+     * Quem mexe nisso é só o job de arquivamento, direto no banco.
+     */
+    @Column(name = "arquivado", nullable = false, insertable = false, updatable = false)
+    private boolean arquivado;
+
     /**
      * Construtor padrão.
      * 
@@ -241,6 +275,27 @@ public final class Jogo {
         return dataAtualizacao;
     }
 
+    /**
+     * Obtém a versão do registro.
+     * 
+     * Aumenta a cada atualização; serve pra detectar quando duas
+     * pessoas tentam alterar o mesmo jogo ao mesmo tempo.
+     * 
+     * @return Versão atual do jogo
+     */
+    public Long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Verifica se o jogo está arquivado.
+     * 
+     * @return true se o jogo estiver nas partições de arquivo
+     */
+    public boolean isArquivado() {
+        return arquivado;
+    }
+
     // Métodos de negócio
 
     /**
@@ -0,0 +1,34 @@
+package br.com.futebol.domain.enums;
+
+/**
+ * Lado do placar que recebe um gol.
+ *
+ * TIME_A é o mandante (timeA/placarA) e TIME_B o visitante
+ * (timeB/placarB), na mesma ordem dos campos do jogo.
+ */
+public enum LadoPlacar {
+
+    /** Gol do time A. */
+    TIME_A,
+
+    /** Gol do time B. */
+    TIME_B;
+
+    /**
+     * Converte "A"/"B" (ou "TIME_A"/"TIME_B"), sem diferenciar maiúsculas.
+     *
+     * @throws IllegalArgumentException se não for nenhum dos dois
+     */
+    public static LadoPlacar deTexto(final String texto) {
+        if (texto != null) {
+            String valor = texto.trim().toUpperCase();
+            if ("A".equals(valor) || "TIME_A".equals(valor)) {
+                return TIME_A;
+            }
+            if ("B".equals(valor) || "TIME_B".equals(valor)) {
+                return TIME_B;
+            }
+        }
+        throw new IllegalArgumentException("Time inválido: " + texto + " (use A ou B)");
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.futebol.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache em memória (L1) com limite de tamanho e tempo de vida.
+ *
+ * Quando passa do limite, sai o item usado há mais tempo (LRU).
+ * O tempo de vida é só uma rede de segurança: normalmente o item
+ * sai antes, por invalidação. Conta acertos e faltas pra calcular
+ * a taxa de acerto.
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ */
+public class CacheLocal<K, V> {
+
+    private final int maxEntradas;
+    private final long tempoVidaNanos;
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder remocoesPorTamanho = new LongAdder();
+
+    /**
+     * @param maxEntradas quantidade máxima de itens
+     * @param tempoVidaSegundos tempo máximo de um item no cache
+     */
+    public CacheLocal(int maxEntradas, int tempoVidaSegundos) {
+        this.maxEntradas = maxEntradas;
+        this.tempoVidaNanos = tempoVidaSegundos * 1_000_000_000L;
+        // accessOrder = true: cada get move o item pro fim, o mais antigo fica no começo
+        this.entradas = new LinkedHashMap<>(Math.min(maxEntradas, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> maisAntiga) {
+                if (size() > CacheLocal.this.maxEntradas) {
+                    remocoesPorTamanho.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Busca um item; devolve null se não tiver ou se tiver expirado.
+     */
+    public V obter(K chave) {
+        Entrada<V> entrada;
+        synchronized (entradas) {
+            entrada = entradas.get(chave);
+            if (entrada != null && entrada.expirada()) {
+                entradas.remove(chave);
+                entrada = null;
+            }
+        }
+        if (entrada == null) {
+            faltas.increment();
+            return null;
+        }
+        acertos.increment();
+        return entrada.valor;
+    }
+
+    public void guardar(K chave, V valor) {
+        Entrada<V> entrada = new Entrada<>(valor, System.nanoTime() + tempoVidaNanos);
+        synchronized (entradas) {
+            entradas.put(chave, entrada);
+        }
+    }
+
+    /**
+     * Guarda só se a chave não estiver no cache.
+     *
+     * Pra quem leu o valor de uma camada mais lenta: se nesse meio
+     * tempo uma escrita já pôs um valor mais novo, ele fica.
+     */
+    public void guardarSeAusente(K chave, V valor) {
+        Entrada<V> entrada = new Entrada<>(valor, System.nanoTime() + tempoVidaNanos);
+        synchronized (entradas) {
+            Entrada<V> atual = entradas.get(chave);
+            if (atual == null || atual.expirada()) {
+                entradas.put(chave, entrada);
+            }
+        }
+    }
+
+    /**
+     * Guarda só se não houver valor ou se o novo não for mais velho.
+     *
+     * Pra escritas que podem chegar fora de ordem: a versão que está
+     * no cache só é trocada por uma igual ou maior (a mesma regra do
+     * script de gravação no Redis).
+     */
+    public void guardarSeMaisNovo(K chave, V valor, ToLongFunction<? super V> versao) {
+        Entrada<V> entrada = new Entrada<>(valor, System.nanoTime() + tempoVidaNanos);
+        synchronized (entradas) {
+            Entrada<V> atual = entradas.get(chave);
+            if (atual == null || atual.expirada()
+                    || versao.applyAsLong(valor) >= versao.applyAsLong(atual.valor)) {
+                entradas.put(chave, entrada);
+            }
+        }
+    }
+
+    public void remover(K chave) {
+        synchronized (entradas) {
+            entradas.remove(chave);
+        }
+    }
+
+    public void limpar() {
+        synchronized (entradas) {
+            entradas.clear();
+        }
+    }
+
+    public int tamanho() {
+        synchronized (entradas) {
+            return entradas.size();
+        }
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getFaltas() {
+        return faltas.sum();
+    }
+
+    public long getRemocoesPorTamanho() {
+        return remocoesPorTamanho.sum();
+    }
+
+    /**
+     * Acertos / (acertos + faltas), ou 0 se ainda não houve consulta.
+     */
+    public double getTaxaAcerto() {
+        long a = acertos.sum();
+        long total = a + faltas.sum();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    private static final class Entrada<V> {
+        private final V valor;
+        private final long expiraEm;
+
+        private Entrada(V valor, long expiraEm) {
+            this.valor = valor;
+            this.expiraEm = expiraEm;
+        }
+
+        private boolean expirada() {
+            return System.nanoTime() - expiraEm > 0;
+        }
+    }
+}
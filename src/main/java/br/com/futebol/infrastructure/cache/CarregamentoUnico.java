@@ -0,0 +1,75 @@
+package br.com.futebol.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Junta carregamentos simultâneos da mesma chave num só.
+ *
+ * A primeira thread que pede uma chave roda o carregador; as que
+ * chegarem enquanto ele roda esperam e recebem o mesmo resultado
+ * (ou a mesma exceção), em vez de cada uma ir no banco. Terminado o
+ * carregamento, a chave sai daqui: nada fica guardado, quem guarda
+ * é o cache.
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor carregado
+ */
+public class CarregamentoUnico<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    private final LongAdder carregamentos = new LongAdder();
+    private final LongAdder aproveitados = new LongAdder();
+
+    /**
+     * Carrega a chave, ou espera o carregamento que já está rodando.
+     */
+    public V carregar(K chave, Supplier<V> carregador) {
+        CompletableFuture<V> novo = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, novo);
+        if (existente != null) {
+            aproveitados.increment();
+            return aguardar(existente);
+        }
+
+        carregamentos.increment();
+        try {
+            V valor = carregador.get();
+            novo.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            novo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, novo);
+        }
+    }
+
+    /** Quantas vezes o carregador rodou. */
+    public long getCarregamentos() {
+        return carregamentos.sum();
+    }
+
+    /** Quantas requisições pegaram carona num carregamento que já estava rodando. */
+    public long getAproveitados() {
+        return aproveitados.sum();
+    }
+
+    private V aguardar(CompletableFuture<V> carregamento) {
+        try {
+            return carregamento.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
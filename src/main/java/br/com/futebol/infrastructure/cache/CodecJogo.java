@@ -0,0 +1,29 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+
+import java.io.IOException;
+
+/**
+ * Converte um jogo pro formato guardado no Redis e de volta.
+ *
+ * Cada formato se identifica pelo primeiro byte, então dá pra ler
+ * valores gravados em qualquer formato conhecido, independente de
+ * qual este servidor usa pra gravar (ver {@link CodecsJogo}).
+ */
+public interface CodecJogo {
+
+    /**
+     * Nome usado na configuração cache.codec.
+     */
+    String getNome();
+
+    byte[] codificar(JogoDTO jogo) throws IOException;
+
+    JogoDTO decodificar(byte[] dados) throws IOException;
+
+    /**
+     * Diz se o valor foi gravado neste formato (olhando o cabeçalho).
+     */
+    boolean reconhece(byte[] dados);
+}
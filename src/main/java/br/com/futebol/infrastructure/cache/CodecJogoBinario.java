@@ -0,0 +1,238 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.StatusJogo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Jogo num formato binário compacto.
+ *
+ * Layout (versão 1):
+ * <pre>
+ * marca (1 byte, 0xB7) | versão (1 byte) | campos presentes (2 bytes, 1 bit por campo)
+ * e depois só os campos presentes, na ordem:
+ *   id            varlong
+ *   timeA, timeB  tamanho (varint) + UTF-8
+ *   placarA/B     varint
+ *   status        1 byte (código fixo, não o ordinal do enum)
+ *   3 datas       segundos desde 1970 (varlong) + nanos (varint)
+ *   versao        varlong
+ * </pre>
+ * Números são zigzag + varint: placar e IDs pequenos ocupam 1 ou 2
+ * bytes, em vez do nome do campo mais o valor em texto do JSON.
+ *
+ * A marca 0xB7 nunca começa um JSON (nem um texto UTF-8 válido), então
+ * o formato é reconhecido pelo primeiro byte. Pra mudar o layout, crie
+ * a versão 2 aqui mantendo a leitura da 1, publique em todos os
+ * servidores e só depois passe a gravar a 2: servidor que ainda não
+ * conhece a versão trata o valor como falta de cache e lê do banco.
+ */
+public class CodecJogoBinario implements CodecJogo {
+
+    public static final String NOME = "binario";
+
+    private static final byte MARCA = (byte) 0xB7;
+    private static final byte VERSAO = 1;
+
+    private static final int CAMPO_ID = 1;
+    private static final int CAMPO_TIME_A = 1 << 1;
+    private static final int CAMPO_TIME_B = 1 << 2;
+    private static final int CAMPO_PLACAR_A = 1 << 3;
+    private static final int CAMPO_PLACAR_B = 1 << 4;
+    private static final int CAMPO_STATUS = 1 << 5;
+    private static final int CAMPO_DATA_PARTIDA = 1 << 6;
+    private static final int CAMPO_DATA_CRIACAO = 1 << 7;
+    private static final int CAMPO_DATA_ATUALIZACAO = 1 << 8;
+    private static final int CAMPO_VERSAO = 1 << 9;
+
+    /** Códigos gravados do status; reordenar o enum não muda o formato. */
+    private static final byte STATUS_EM_ANDAMENTO = 1;
+    private static final byte STATUS_ENCERRADO = 2;
+
+    /** Tamanho inicial do buffer; cabe um jogo típico sem crescer. */
+    private static final int TAMANHO_INICIAL = 96;
+
+    @Override
+    public String getNome() {
+        return NOME;
+    }
+
+    @Override
+    public byte[] codificar(JogoDTO jogo) throws IOException {
+        int campos = 0;
+        campos |= jogo.getId() != null ? CAMPO_ID : 0;
+        campos |= jogo.getTimeA() != null ? CAMPO_TIME_A : 0;
+        campos |= jogo.getTimeB() != null ? CAMPO_TIME_B : 0;
+        campos |= jogo.getPlacarA() != null ? CAMPO_PLACAR_A : 0;
+        campos |= jogo.getPlacarB() != null ? CAMPO_PLACAR_B : 0;
+        campos |= jogo.getStatus() != null ? CAMPO_STATUS : 0;
+        campos |= jogo.getDataHoraPartida() != null ? CAMPO_DATA_PARTIDA : 0;
+        campos |= jogo.getDataCriacao() != null ? CAMPO_DATA_CRIACAO : 0;
+        campos |= jogo.getDataAtualizacao() != null ? CAMPO_DATA_ATUALIZACAO : 0;
+        campos |= jogo.getVersao() != null ? CAMPO_VERSAO : 0;
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(TAMANHO_INICIAL);
+        saida.write(MARCA);
+        saida.write(VERSAO);
+        saida.write(campos >>> 8);
+        saida.write(campos);
+
+        if (jogo.getId() != null) {
+            escreverLong(saida, jogo.getId());
+        }
+        if (jogo.getTimeA() != null) {
+            escreverTexto(saida, jogo.getTimeA());
+        }
+        if (jogo.getTimeB() != null) {
+            escreverTexto(saida, jogo.getTimeB());
+        }
+        if (jogo.getPlacarA() != null) {
+            escreverLong(saida, jogo.getPlacarA());
+        }
+        if (jogo.getPlacarB() != null) {
+            escreverLong(saida, jogo.getPlacarB());
+        }
+        if (jogo.getStatus() != null) {
+            saida.write(codigoStatus(jogo.getStatus()));
+        }
+        if (jogo.getDataHoraPartida() != null) {
+            escreverData(saida, jogo.getDataHoraPartida());
+        }
+        if (jogo.getDataCriacao() != null) {
+            escreverData(saida, jogo.getDataCriacao());
+        }
+        if (jogo.getDataAtualizacao() != null) {
+            escreverData(saida, jogo.getDataAtualizacao());
+        }
+        if (jogo.getVersao() != null) {
+            escreverLong(saida, jogo.getVersao());
+        }
+        return saida.toByteArray();
+    }
+
+    @Override
+    public JogoDTO decodificar(byte[] dados) throws IOException {
+        if (!reconhece(dados)) {
+            throw new IOException("Valor não está no formato binário de jogo");
+        }
+        if (dados[1] != VERSAO) {
+            throw new IOException("Versão do formato binário desconhecida: " + dados[1]);
+        }
+        try {
+            ByteBuffer entrada = ByteBuffer.wrap(dados, 2, dados.length - 2);
+            int campos = ((entrada.get() & 0xFF) << 8) | (entrada.get() & 0xFF);
+
+            JogoDTO jogo = new JogoDTO();
+            // O construtor põe placar 0 e EM_ANDAMENTO; o que foi gravado nulo volta nulo
+            jogo.setId((campos & CAMPO_ID) != 0 ? lerLong(entrada) : null);
+            jogo.setTimeA((campos & CAMPO_TIME_A) != 0 ? lerTexto(entrada) : null);
+            jogo.setTimeB((campos & CAMPO_TIME_B) != 0 ? lerTexto(entrada) : null);
+            jogo.setPlacarA((campos & CAMPO_PLACAR_A) != 0 ? (int) lerLong(entrada) : null);
+            jogo.setPlacarB((campos & CAMPO_PLACAR_B) != 0 ? (int) lerLong(entrada) : null);
+            jogo.setStatus((campos & CAMPO_STATUS) != 0 ? statusDoCodigo(entrada.get()) : null);
+            jogo.setDataHoraPartida((campos & CAMPO_DATA_PARTIDA) != 0 ? lerData(entrada) : null);
+            jogo.setDataCriacao((campos & CAMPO_DATA_CRIACAO) != 0 ? lerData(entrada) : null);
+            jogo.setDataAtualizacao((campos & CAMPO_DATA_ATUALIZACAO) != 0 ? lerData(entrada) : null);
+            jogo.setVersao((campos & CAMPO_VERSAO) != 0 ? lerLong(entrada) : null);
+            return jogo;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Valor binário de jogo corrompido", e);
+        }
+    }
+
+    @Override
+    public boolean reconhece(byte[] dados) {
+        return dados.length >= 4 && dados[0] == MARCA;
+    }
+
+    private static byte codigoStatus(StatusJogo status) {
+        switch (status) {
+            case EM_ANDAMENTO:
+                return STATUS_EM_ANDAMENTO;
+            case ENCERRADO:
+                return STATUS_ENCERRADO;
+            default:
+                throw new IllegalArgumentException("Status sem código no formato binário: " + status);
+        }
+    }
+
+    private static StatusJogo statusDoCodigo(byte codigo) {
+        switch (codigo) {
+            case STATUS_EM_ANDAMENTO:
+                return StatusJogo.EM_ANDAMENTO;
+            case STATUS_ENCERRADO:
+                return StatusJogo.ENCERRADO;
+            default:
+                throw new IllegalArgumentException("Código de status desconhecido: " + codigo);
+        }
+    }
+
+    private static void escreverTexto(ByteArrayOutputStream saida, String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        escreverVarint(saida, bytes.length);
+        saida.write(bytes, 0, bytes.length);
+    }
+
+    private static String lerTexto(ByteBuffer entrada) {
+        int tamanho = (int) lerVarint(entrada);
+        if (tamanho < 0 || tamanho > entrada.remaining()) {
+            throw new IllegalArgumentException("Tamanho de texto inválido: " + tamanho);
+        }
+        String texto = new String(entrada.array(), entrada.arrayOffset() + entrada.position(),
+                tamanho, StandardCharsets.UTF_8);
+        entrada.position(entrada.position() + tamanho);
+        return texto;
+    }
+
+    /**
+     * Data sem fuso, gravada como se fosse UTC (só importa ser o mesmo na volta).
+     */
+    private static void escreverData(ByteArrayOutputStream saida, LocalDateTime data) {
+        escreverLong(saida, data.toEpochSecond(ZoneOffset.UTC));
+        escreverVarint(saida, data.getNano());
+    }
+
+    private static LocalDateTime lerData(ByteBuffer entrada) {
+        long segundos = lerLong(entrada);
+        int nanos = (int) lerVarint(entrada);
+        return LocalDateTime.ofEpochSecond(segundos, nanos, ZoneOffset.UTC);
+    }
+
+    /** Zigzag: números negativos pequenos também ficam com poucos bytes. */
+    private static void escreverLong(ByteArrayOutputStream saida, long valor) {
+        escreverVarint(saida, (valor << 1) ^ (valor >> 63));
+    }
+
+    private static long lerLong(ByteBuffer entrada) {
+        long valor = lerVarint(entrada);
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    /** 7 bits por byte; o bit mais alto diz se tem mais byte. */
+    private static void escreverVarint(ByteArrayOutputStream saida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            saida.write((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        saida.write((int) valor);
+    }
+
+    private static long lerVarint(ByteBuffer entrada) {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+            byte b = entrada.get();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint longo demais");
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+
+/**
+ * Jogo em JSON (UTF-8), o formato de sempre.
+ *
+ * Grava exatamente o que o RedisService gravava antes, então os
+ * valores que já estão no Redis continuam sendo lidos.
+ */
+public class CodecJogoJson implements CodecJogo {
+
+    public static final String NOME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public CodecJogoJson() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        // O JSON leva resultado, emAndamento e encerrado (getters calculados do DTO), que não têm setter
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Override
+    public String getNome() {
+        return NOME;
+    }
+
+    @Override
+    public byte[] codificar(JogoDTO jogo) throws IOException {
+        return objectMapper.writeValueAsBytes(jogo);
+    }
+
+    @Override
+    public JogoDTO decodificar(byte[] dados) throws IOException {
+        return objectMapper.readValue(dados, JogoDTO.class);
+    }
+
+    @Override
+    public boolean reconhece(byte[] dados) {
+        return dados.length > 0 && dados[0] == '{';
+    }
+}
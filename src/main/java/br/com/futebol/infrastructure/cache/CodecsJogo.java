@@ -0,0 +1,57 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escolhe o codec dos jogos guardados no Redis.
+ *
+ * Grava sempre no formato de cache.codec (json ou binario) e lê
+ * qualquer formato conhecido, olhando o primeiro byte. Assim dá pra
+ * trocar o formato com servidores das duas configurações rodando
+ * juntos: cada um entende o que o outro gravou.
+ */
+public final class CodecsJogo {
+
+    private static final List<CodecJogo> CONHECIDOS = List.of(
+            new CodecJogoJson(), new CodecJogoBinario());
+
+    private final CodecJogo escrita;
+
+    public CodecsJogo() {
+        this(ConfiguracaoAplicacao.obterTexto("cache.codec", CodecJogoJson.NOME));
+    }
+
+    public CodecsJogo(String nomeEscrita) {
+        this.escrita = CONHECIDOS.stream()
+                .filter(codec -> codec.getNome().equalsIgnoreCase(nomeEscrita.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "cache.codec desconhecido: " + nomeEscrita));
+    }
+
+    public String getNomeEscrita() {
+        return escrita.getNome();
+    }
+
+    public byte[] codificar(JogoDTO jogo) throws IOException {
+        return escrita.codificar(jogo);
+    }
+
+    /**
+     * Lê um valor gravado em qualquer formato conhecido.
+     *
+     * @throws IOException se nenhum codec reconhecer o valor ou ele estiver corrompido
+     */
+    public JogoDTO decodificar(byte[] dados) throws IOException {
+        for (CodecJogo codec : CONHECIDOS) {
+            if (codec.reconhece(dados)) {
+                return codec.decodificar(dados);
+            }
+        }
+        throw new IOException("Formato de jogo no cache não reconhecido");
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.LadoPlacar;
+
+/**
+ * Escrita de um jogo esperando na fila pra ir pro Redis.
+ *
+ * Duas escritas do mesmo jogo viram uma só ({@link #juntar}): fica o
+ * jogo de versão mais nova, gravado inteiro (o script incremental só
+ * serve pra uma versão de diferença). Remoção ganha de tudo.
+ */
+final class EscritaPendente {
+
+    enum Tipo {
+        /** Jogo inteiro (SCRIPT_GRAVAR). */
+        GRAVAR,
+        /** Só o placar (SCRIPT_PLACAR). */
+        PLACAR,
+        /** Um gol (SCRIPT_GOL). */
+        GOL,
+        /** Apaga o jogo e marca como ausente. */
+        REMOVER
+    }
+
+    private final Tipo tipo;
+    private final Long jogoId;
+    private final JogoDTO jogo;
+    private final LadoPlacar lado;
+
+    private EscritaPendente(Tipo tipo, Long jogoId, JogoDTO jogo, LadoPlacar lado) {
+        this.tipo = tipo;
+        this.jogoId = jogoId;
+        this.jogo = jogo;
+        this.lado = lado;
+    }
+
+    static EscritaPendente gravar(JogoDTO jogo) {
+        return new EscritaPendente(Tipo.GRAVAR, jogo.getId(), jogo, null);
+    }
+
+    static EscritaPendente placar(JogoDTO jogo) {
+        return new EscritaPendente(Tipo.PLACAR, jogo.getId(), jogo, null);
+    }
+
+    static EscritaPendente gol(JogoDTO jogo, LadoPlacar lado) {
+        return new EscritaPendente(Tipo.GOL, jogo.getId(), jogo, lado);
+    }
+
+    static EscritaPendente remover(Long jogoId) {
+        return new EscritaPendente(Tipo.REMOVER, jogoId, null, null);
+    }
+
+    /**
+     * Junta esta escrita (a que já estava na fila) com uma mais recente do mesmo jogo.
+     */
+    EscritaPendente juntar(EscritaPendente recente) {
+        if (tipo == Tipo.REMOVER) {
+            // ID não volta a ser usado: escrita depois da remoção está atrasada
+            return this;
+        }
+        if (recente.tipo == Tipo.REMOVER) {
+            return recente;
+        }
+        JogoDTO maisNovo = versao(recente.jogo) >= versao(jogo) ? recente.jogo : jogo;
+        return gravar(maisNovo);
+    }
+
+    Tipo getTipo() {
+        return tipo;
+    }
+
+    Long getJogoId() {
+        return jogoId;
+    }
+
+    JogoDTO getJogo() {
+        return jogo;
+    }
+
+    LadoPlacar getLado() {
+        return lado;
+    }
+
+    private static long versao(JogoDTO jogo) {
+        return jogo.getVersao() == null ? 0 : jogo.getVersao();
+    }
+}
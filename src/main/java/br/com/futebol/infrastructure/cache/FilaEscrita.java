@@ -0,0 +1,251 @@
+package br.com.futebol.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fila de escritas no Redis, gravadas em segundo plano (write-behind).
+ *
+ * Guarda no máximo uma escrita por jogo: se o jogo já está na fila, a
+ * nova se junta à que estava e só a versão mais nova vai pro Redis.
+ * Uma thread só tira lotes na ordem em que os jogos entraram e grava
+ * cada lote num pipeline; por ser uma thread só, duas escritas do
+ * mesmo jogo nunca vão pro Redis fora de ordem.
+ *
+ * A fila tem limite de jogos. Cheia, {@link #enfileirar} devolve false
+ * e quem chamou grava direto (é a contrapressão: a requisição volta a
+ * pagar a ida ao Redis em vez de a memória crescer). Lote que falhou
+ * volta pra fila e é tentado de novo depois de uma pausa.
+ */
+final class FilaEscrita {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilaEscrita.class);
+
+    /** Quanto a thread espera por trabalho antes de olhar a fila de novo. */
+    private static final long ESPERA_MS = 1000;
+
+    /** Pausa depois de um lote que falhou (Redis fora, disjuntor aberto). */
+    private static final long PAUSA_FALHA_MS = 500;
+
+    /** Quanto a descida da aplicação espera a fila esvaziar. */
+    private static final long ESPERA_DESLIGAR_MS = 2000;
+
+    /** Quem grava um lote no Redis (lança exceção se não conseguiu). */
+    interface Gravador {
+        void gravar(List<EscritaPendente> lote) throws Exception;
+    }
+
+    private final int capacidade;
+    private final int tamanhoLote;
+    private final Gravador gravador;
+
+    private final ConcurrentHashMap<Long, EscritaPendente> pendentes = new ConcurrentHashMap<>();
+    /** Ordem de chegada dos jogos (cada um entra uma vez por passagem na fila). */
+    private final ConcurrentLinkedQueue<Long> ordem = new ConcurrentLinkedQueue<>();
+    private final Semaphore sinal = new Semaphore(0);
+
+    private final LongAdder enfileiradas = new LongAdder();
+    private final LongAdder juntadas = new LongAdder();
+    private final LongAdder gravadas = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+    private final LongAdder lotesComFalha = new LongAdder();
+    private final LongAdder transbordos = new LongAdder();
+    private final AtomicInteger maiorTamanho = new AtomicInteger();
+
+    private volatile boolean ativo;
+    private volatile Thread trabalhador;
+
+    FilaEscrita(int capacidade, int tamanhoLote, Gravador gravador) {
+        this.capacidade = Math.max(capacidade, 1);
+        this.tamanhoLote = Math.max(tamanhoLote, 1);
+        this.gravador = gravador;
+    }
+
+    /**
+     * Sobe a thread que grava os lotes.
+     */
+    void iniciar(ThreadFactory fabricaThreads) {
+        ativo = true;
+        Thread thread = fabricaThreads != null
+                ? fabricaThreads.newThread(this::trabalhar) : new Thread(this::trabalhar);
+        thread.setName("redis-escrita-atrasada");
+        thread.setDaemon(true);
+        trabalhador = thread;
+        thread.start();
+    }
+
+    /**
+     * Põe a escrita na fila, juntando com a que já estiver lá pro mesmo jogo.
+     *
+     * @return false se a fila estiver cheia (aí quem chamou grava direto)
+     */
+    boolean enfileirar(EscritaPendente escrita) {
+        if (!ativo) {
+            return false;
+        }
+        Long jogoId = escrita.getJogoId();
+        if (pendentes.size() >= capacidade && !pendentes.containsKey(jogoId)) {
+            transbordos.increment();
+            return false;
+        }
+        enfileiradas.increment();
+        colocar(escrita);
+        sinal.release();
+        return true;
+    }
+
+    /**
+     * Para a thread, esperando um pouco ela gravar o que ficou.
+     */
+    void parar() {
+        ativo = false;
+        sinal.release();
+        Thread thread = trabalhador;
+        if (thread != null) {
+            try {
+                thread.join(ESPERA_DESLIGAR_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            LOGGER.warn("{} escritas no Redis descartadas na descida da aplicação", pendentes.size());
+        }
+    }
+
+    int getPendentes() {
+        return pendentes.size();
+    }
+
+    int getMaiorTamanho() {
+        return maiorTamanho.get();
+    }
+
+    long getEnfileiradas() {
+        return enfileiradas.sum();
+    }
+
+    long getJuntadas() {
+        return juntadas.sum();
+    }
+
+    long getGravadas() {
+        return gravadas.sum();
+    }
+
+    long getLotes() {
+        return lotes.sum();
+    }
+
+    long getLotesComFalha() {
+        return lotesComFalha.sum();
+    }
+
+    long getTransbordos() {
+        return transbordos.sum();
+    }
+
+    private void trabalhar() {
+        while (ativo || !pendentes.isEmpty()) {
+            List<EscritaPendente> lote = retirarLote();
+            if (lote.isEmpty()) {
+                if (!ativo) {
+                    return;
+                }
+                aguardar(ESPERA_MS);
+                continue;
+            }
+            try {
+                gravador.gravar(lote);
+                gravadas.add(lote.size());
+                lotes.increment();
+            } catch (Exception e) {
+                lotesComFalha.increment();
+                if (!ativo) {
+                    // Descendo: não adianta insistir
+                    return;
+                }
+                lote.forEach(this::devolver);
+                LOGGER.debug("Lote de {} escritas não foi pro Redis, tentando de novo: {}",
+                        lote.size(), e.getMessage());
+                pausar(PAUSA_FALHA_MS);
+            }
+        }
+    }
+
+    private List<EscritaPendente> retirarLote() {
+        List<EscritaPendente> lote = new ArrayList<>(Math.min(tamanhoLote, pendentes.size()));
+        while (lote.size() < tamanhoLote) {
+            Long jogoId = ordem.poll();
+            if (jogoId == null) {
+                break;
+            }
+            EscritaPendente escrita = pendentes.remove(jogoId);
+            if (escrita != null) {
+                lote.add(escrita);
+            }
+        }
+        return lote;
+    }
+
+    private void colocar(EscritaPendente escrita) {
+        boolean[] novo = {false};
+        pendentes.compute(escrita.getJogoId(), (id, atual) -> {
+            if (atual == null) {
+                novo[0] = true;
+                return escrita;
+            }
+            juntadas.increment();
+            return atual.juntar(escrita);
+        });
+        if (novo[0]) {
+            ordem.add(escrita.getJogoId());
+            maiorTamanho.accumulateAndGet(pendentes.size(), Math::max);
+        }
+    }
+
+    /** Lote que falhou volta pra fila; o que chegou depois pro mesmo jogo é mais novo. */
+    private void devolver(EscritaPendente escrita) {
+        boolean[] novo = {false};
+        pendentes.compute(escrita.getJogoId(), (id, atual) -> {
+            if (atual == null) {
+                novo[0] = true;
+                return escrita;
+            }
+            return escrita.juntar(atual);
+        });
+        if (novo[0]) {
+            ordem.add(escrita.getJogoId());
+        }
+    }
+
+    private void aguardar(long ms) {
+        try {
+            if (sinal.tryAcquire(ms, TimeUnit.MILLISECONDS)) {
+                sinal.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ativo = false;
+        }
+    }
+
+    private void pausar(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ativo = false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.futebol.infrastructure.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Conjunto de IDs em bits, pra saber rápido se um ID pode existir.
+ *
+ * Faz o papel de um filtro de Bloom, mas sem falso positivo por
+ * colisão e aceitando remoção: como os IDs vêm de uma sequência, um
+ * bit por ID sai mais barato que as funções de hash. Os bits ficam
+ * em páginas de 65536 IDs (8KB cada), criadas só quando algum ID da
+ * faixa aparece. Leitura e escrita não usam lock.
+ */
+public class FiltroIds {
+
+    /** 2^16 IDs por página. */
+    private static final int BITS_PAGINA = 16;
+    private static final int LONGS_POR_PAGINA = (1 << BITS_PAGINA) / Long.SIZE;
+
+    private final ConcurrentHashMap<Long, AtomicLongArray> paginas = new ConcurrentHashMap<>();
+
+    public void adicionar(long id) {
+        AtomicLongArray pagina = paginas.computeIfAbsent(id >>> BITS_PAGINA,
+                p -> new AtomicLongArray(LONGS_POR_PAGINA));
+        long bit = 1L << id;
+        pagina.getAndAccumulate(posicao(id), bit, (atual, b) -> atual | b);
+    }
+
+    public void remover(long id) {
+        AtomicLongArray pagina = paginas.get(id >>> BITS_PAGINA);
+        if (pagina != null) {
+            long bit = 1L << id;
+            pagina.getAndAccumulate(posicao(id), bit, (atual, b) -> atual & ~b);
+        }
+    }
+
+    public boolean contem(long id) {
+        AtomicLongArray pagina = paginas.get(id >>> BITS_PAGINA);
+        return pagina != null && (pagina.get(posicao(id)) & (1L << id)) != 0;
+    }
+
+    /** Memória aproximada ocupada pelos bits, em bytes. */
+    public long getTamanhoBytes() {
+        return (long) paginas.size() * LONGS_POR_PAGINA * Long.BYTES;
+    }
+
+    /** Posição do long dentro da página (o bit dentro do long é id % 64, que o shift já faz). */
+    private static int posicao(long id) {
+        return (int) ((id & ((1 << BITS_PAGINA) - 1)) >>> 6);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.futebol.infrastructure.cache;
+
+/**
+ * Quem quer saber dos avisos de invalidação que chegam de outros servidores.
+ *
+ * Registrado no {@link RedisService}; os métodos rodam na thread que
+ * escuta o canal, então devem ser rápidos.
+ */
+public interface OuvinteInvalidacao {
+
+    /**
+     * Outro servidor gravou ou removeu o jogo.
+     */
+    void jogoAlterado(Long jogoId);
+
+    /**
+     * A escuta (re)começou. Avisos de antes disso podem ter se perdido.
+     */
+    void escutaIniciada();
+
+    /**
+     * A escuta caiu: até ela voltar, nenhum aviso chega.
+     */
+    void escutaInterrompida();
+}
@@ -0,0 +1,76 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.infrastructure.util.Disjuntor;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * Pool do Jedis que conversa com o disjuntor do Redis.
+ *
+ * Com o disjuntor aberto, pedir conexão falha na hora em vez de
+ * esperar o timeout. Conexão devolvida inteira conta como sucesso;
+ * devolvida quebrada (o Jedis marca quando a rede falha no meio do
+ * comando) ou que nem conseguiu ser criada conta como falha. Assim
+ * o RedisService continua usando try-with-resources como sempre.
+ */
+class PoolRedisComDisjuntor extends JedisPool {
+
+    private final Disjuntor disjuntor;
+
+    PoolRedisComDisjuntor(JedisPoolConfig configuracao, String host, int porta, int timeoutMs,
+            String senha, Disjuntor disjuntor) {
+        super(configuracao, host, porta, timeoutMs, senha);
+        this.disjuntor = disjuntor;
+    }
+
+    @Override
+    public Jedis getResource() {
+        if (!disjuntor.permite()) {
+            throw new DisjuntorAbertoException();
+        }
+        try {
+            return super.getResource();
+        } catch (JedisConnectionException e) {
+            disjuntor.registrarFalha();
+            throw e;
+        }
+    }
+
+    @Override
+    public void returnResource(Jedis conexao) {
+        disjuntor.registrarSucesso();
+        super.returnResource(conexao);
+    }
+
+    @Override
+    public void returnBrokenResource(Jedis conexao) {
+        disjuntor.registrarFalha();
+        super.returnBrokenResource(conexao);
+    }
+
+    /**
+     * PING por fora do disjuntor (é a sonda dele).
+     */
+    boolean responde() {
+        try (Jedis jedis = super.getResource()) {
+            return "PONG".equals(jedis.ping());
+        }
+    }
+
+    /** Falha imediata com o disjuntor aberto; sem stack trace, que não diz nada aqui. */
+    static final class DisjuntorAbertoException extends JedisConnectionException {
+
+        private static final long serialVersionUID = 1L;
+
+        DisjuntorAbertoException() {
+            super("Disjuntor do Redis aberto");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
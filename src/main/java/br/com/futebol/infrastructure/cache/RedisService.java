@@ -1,20 +1,50 @@
 package br.com.futebol.infrastructure.cache;
 
 import br.com.futebol.application.dto.JogoDTO;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import br.com.futebol.domain.enums.LadoPlacar;
+import br.com.futebol.domain.enums.StatusJogo;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import br.com.futebol.infrastructure.util.Disjuntor;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Serviço que cuida do cache Redis.
@@ -23,6 +53,18 @@ import java.util.Optional;
  * assim as consultas ficam muito mais rápidas que ir no banco
  * toda vez.
  * 
+ * Na frente do Redis tem um cache local (L1) na memória da JVM
+ * pros jogos mais lidos. Quando um jogo é gravado ou removido, o
+ * aviso vai pelo canal pub/sub jogos:invalidacao e os outros
+ * servidores tiram o jogo do L1 deles.
+ * 
+ * Cada jogo é um hash jogo:g{geração}:hash:{id}. O campo "dados" tem o jogo
+ * no formato de cache.codec (JSON ou binário compacto, ver
+ * {@link CodecsJogo}); placar, versão e data de atualização ficam em
+ * campos próprios, pra um gol mexer só neles. As escritas passam por
+ * scripts Lua que comparam a versão, então uma escrita atrasada nunca
+ * passa por cima de uma mais nova.
+ * 
  * @author Eu mesmo (desenvolvedor)
  * @version 1.0.0
  * @since 2024-01-01
@@ -33,39 +75,281 @@ public class RedisService {
     /** Logger para esta classe. */
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisService.class);
 
-    /** Prefixo para chaves de placar no Redis. */
-    private static final String PREFIXO_PLACAR = "jogo:placar:";
+    /*
+     * Chaves de jogo ficam num espaço com geração: jogo:g{geração}:hash:{id}
+     * e jogo:g{geração}:ausente:{id}. Invalidar tudo é um INCR em
+     * jogo:geracao; as chaves das gerações velhas ninguém mais lê e a
+     * varredura apaga aos poucos. Trava de carga e painel ficam fora.
+     */
+    private static final String CHAVE_GERACAO = "jogo:geracao";
+    private static final String PREFIXO_GERACAO = "jogo:g";
+    private static final String SUFIXO_JOGO = "hash:";
+    private static final String SUFIXO_AUSENTE = "ausente:";
+
+    /** Até que geração a varredura já apagou as chaves velhas. */
+    private static final String CHAVE_GERACAO_VARRIDA = "jogo:geracao:varrida";
+
+    /** Chaves de antes da geração (jogo:hash:{id}, jogo:ausente:{id}), também varridas. */
+    private static final String[] PREFIXOS_SEM_GERACAO = {"jogo:hash:", "jogo:ausente:"};
+
+    /** Intervalo da varredura das gerações velhas, em minutos. */
+    private static final int VARREDURA_INTERVALO_MINUTOS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.varredura.intervalo_minutos", 60);
+
+    /** Chaves olhadas por SCAN e pausa entre um SCAN e outro: a varredura nunca segura o Redis. */
+    private static final int VARREDURA_CHAVES_POR_SCAN = ConfiguracaoAplicacao.obterInteiro(
+            "cache.varredura.chaves_por_scan", 500);
+    private static final int VARREDURA_PAUSA_MS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.varredura.pausa_ms", 20);
+
+    /** Só um servidor varre por vez. */
+    private static final String TRAVA_VARREDURA = "jogo:trava:varredura";
+    private static final long TRAVA_VARREDURA_MS = 60000;
+
+    /** Campos do hash de um jogo. */
+    private static final String CAMPO_DADOS = "dados";
+    private static final String CAMPO_PLACAR_A = "placarA";
+    private static final String CAMPO_PLACAR_B = "placarB";
+    private static final String CAMPO_VERSAO = "versao";
+    private static final String CAMPO_ATUALIZADO_EM = "atualizadoEm";
+
+    /** Campos lidos pra montar o jogo inteiro, nessa ordem. */
+    private static final byte[][] CAMPOS_JOGO = {
+        bytes(CAMPO_DADOS), bytes(CAMPO_PLACAR_A), bytes(CAMPO_PLACAR_B),
+        bytes(CAMPO_VERSAO), bytes(CAMPO_ATUALIZADO_EM)
+    };
+
+    /** Sorted set com os IDs dos jogos em andamento (score = início da partida). */
+    private static final String CHAVE_PAINEL = "jogos:em_andamento";
+
+    /** Máximo de membros por ZADD/ZREM (listas maiores viram vários no mesmo pipeline). */
+    private static final int MEMBROS_POR_COMANDO = 1000;
+
+    /** Argumento vazio (sem aviso de invalidação, valor nulo). */
+    private static final byte[] VAZIO = new byte[0];
+
+    /**
+     * TTL dos jogos em andamento, em segundos. Cada escrita (gol,
+     * placar) renova, então só expira jogo parado há esse tempo todo;
+     * o padrão cobre uma partida inteira sem gol.
+     */
+    private static final int TTL_EM_ANDAMENTO = ConfiguracaoAplicacao.obterInteiro(
+            "cache.ttl.em_andamento_segundos", 10800);
+
+    /**
+     * TTL dos jogos encerrados, em segundos. Encerrado não muda mais,
+     * então pode ficar bastante; 0 = sem expiração (aí quem tira é a
+     * maxmemory-policy do Redis, que precisa ser allkeys-lru ou
+     * allkeys-lfu).
+     */
+    private static final int TTL_ENCERRADO = ConfiguracaoAplicacao.obterInteiro(
+            "cache.ttl.encerrado_segundos", 2592000);
+
+    /**
+     * Variação sorteada no TTL de cada escrita, em % pra mais ou pra
+     * menos. Jogos gravados juntos (um lote, o painel) não expiram
+     * todos no mesmo segundo.
+     */
+    private static final int VARIACAO_TTL_PERCENTUAL = ConfiguracaoAplicacao.obterInteiro(
+            "cache.ttl_variacao_percentual", 10);
+
+    /**
+     * Renovação antecipada probabilística (XFetch): perto de expirar,
+     * uma leitura de vez em quando é tratada como falta e recarrega o
+     * jogo antes da chave sumir. A chance cresce conforme o fim se
+     * aproxima; custo_ms é quanto uma recarga costuma levar e beta
+     * (em %) deixa mais ou menos agressivo.
+     */
+    private static final int RENOVACAO_CUSTO_MS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.renovacao.custo_ms", 100);
+    private static final int RENOVACAO_BETA_PERCENTUAL = ConfiguracaoAplicacao.obterInteiro(
+            "cache.renovacao.beta_percentual", 100);
+
+    /** TTL curto das marcas de ausência: um ID pode passar a existir. */
+    private static final int AUSENTE_TTL_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.negativo.ttl_segundos", 30);
 
-    /** Prefixo para chaves de dados completos no Redis. */
-    private static final String PREFIXO_JOGO = "jogo:dados:";
+    /** Prefixo das travas de carga (só um servidor recarrega um jogo por vez). */
+    private static final String PREFIXO_TRAVA = "jogo:trava:";
 
-    /** Tempo de expiração padrão em segundos (1 hora). */
-    private static final int TEMPO_EXPIRACAO = 3600;
+    /** Validade da trava de carga; se o dono morrer, ela some sozinha. */
+    private static final int TRAVA_VALIDADE_MS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.trava.validade_ms", 3000);
+
+    /** Quanto esperar pelo carregamento de outro servidor antes de ir no banco. */
+    private static final int TRAVA_ESPERA_MS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.trava.espera_ms", 300);
+    private static final long TRAVA_INTERVALO_MS = 25;
 
     /** Configurações do pool de conexões. */
     private static final int MAX_TOTAL_CONNECTIONS = 20;
     private static final int MAX_IDLE_CONNECTIONS = 10;
     private static final int MIN_IDLE_CONNECTIONS = 5;
     private static final int CONNECTION_TIMEOUT_MS = 2000;
-    private static final int EVICTION_RUN_INTERVAL_MINUTES = 5;
     private static final int MIN_EVICTABLE_IDLE_TIME_MINUTES = 1;
 
-    /** Pool de conexões Redis. */
-    private JedisPool jedisPool;
+    /**
+     * De quanto em quanto tempo as conexões paradas no pool levam um
+     * PING, em segundos. A validação é só essa, em segundo plano:
+     * testar na retirada e na devolução custava dois PINGs a mais em
+     * toda operação.
+     */
+    private static final int VALIDACAO_OCIOSAS_SEGUNDOS = 30;
+
+    /**
+     * Escritas de placar, gol, encerramento e remoção vão pra uma fila
+     * gravada em segundo plano, depois do commit (ver {@link FilaEscrita}).
+     * Desligado, são gravadas direto, ainda depois do commit.
+     */
+    private static final boolean ESCRITA_ATRASADA = ConfiguracaoAplicacao.obterBooleano(
+            "cache.escrita_atrasada.habilitada", true);
+    private static final int ESCRITA_ATRASADA_MAX_PENDENTES = ConfiguracaoAplicacao.obterInteiro(
+            "cache.escrita_atrasada.max_pendentes", 10000);
+    private static final int ESCRITA_ATRASADA_LOTE = ConfiguracaoAplicacao.obterInteiro(
+            "cache.escrita_atrasada.lote", 200);
+
+    /** Falhas seguidas que abrem o disjuntor do Redis. */
+    private static final int DISJUNTOR_FALHAS = ConfiguracaoAplicacao.obterInteiro(
+            "disjuntor.redis.falhas", 5);
+
+    /** Intervalo da sonda com o disjuntor aberto, em milissegundos. */
+    private static final int DISJUNTOR_SONDA_MS = ConfiguracaoAplicacao.obterInteiro(
+            "disjuntor.redis.sonda_ms", 1000);
+
+    /** Canal pub/sub das invalidações do L1 entre servidores. */
+    private static final String CANAL_INVALIDACAO = "jogos:invalidacao";
+
+    /** Mensagem de invalidação: "<servidor de origem>|<id do jogo ou *>". */
+    private static final String SEPARADOR_INVALIDACAO = "|";
+    private static final String INVALIDAR_TUDO = "*";
+
+    /*
+     * Scripts de escrita. Argumentos comuns: ARGV[1] = TTL (0 = sem expiração), ARGV[2] =
+     * aviso de invalidação ('' pra não avisar), ARGV[3] = versão do
+     * jogo no banco. O aviso sai do próprio script, só se gravou.
+     */
+    private static final String FIM_ESCRITA =
+        "if ARGV[1] == '0' then redis.call('PERSIST', KEYS[1])"
+        + " else redis.call('EXPIRE', KEYS[1], ARGV[1]) end\n"
+        + "if ARGV[2] ~= '' then redis.call('PUBLISH', '" + CANAL_INVALIDACAO + "', ARGV[2]) end\n"
+        + "return 1\n";
+
+    /** Só aplica se o cache estiver exatamente uma versão atrás; -1 = grave o jogo inteiro. */
+    private static final String INICIO_INCREMENTAL =
+        "local atual = tonumber(redis.call('HGET', KEYS[1], 'versao'))\n"
+        + "local nova = tonumber(ARGV[3])\n"
+        + "if not atual or not nova then return -1 end\n"
+        + "if atual >= nova then return 0 end\n"
+        + "if atual ~= nova - 1 then return -1 end\n";
+
+    /** Jogo inteiro. ARGV[4..7] = dados, placarA, placarB, atualizadoEm. */
+    private static final ScriptLua SCRIPT_GRAVAR = new ScriptLua(
+        "local atual = tonumber(redis.call('HGET', KEYS[1], 'versao'))\n"
+        + "local nova = tonumber(ARGV[3])\n"
+        + "if atual and nova and atual > nova then return 0 end\n"
+        + "redis.call('HSET', KEYS[1], 'dados', ARGV[4], 'placarA', ARGV[5], 'placarB', ARGV[6],"
+        + " 'versao', ARGV[3], 'atualizadoEm', ARGV[7])\n"
+        + FIM_ESCRITA);
+
+    /** Placar inteiro. ARGV[4..6] = placarA, placarB, atualizadoEm. */
+    private static final ScriptLua SCRIPT_PLACAR = new ScriptLua(
+        INICIO_INCREMENTAL
+        + "redis.call('HSET', KEYS[1], 'placarA', ARGV[4], 'placarB', ARGV[5],"
+        + " 'versao', ARGV[3], 'atualizadoEm', ARGV[6])\n"
+        + FIM_ESCRITA);
+
+    /** Um gol. ARGV[4] = campo do placar, ARGV[5] = atualizadoEm. */
+    private static final ScriptLua SCRIPT_GOL = new ScriptLua(
+        INICIO_INCREMENTAL
+        + "redis.call('HINCRBY', KEYS[1], ARGV[4], 1)\n"
+        + "redis.call('HINCRBY', KEYS[1], 'versao', 1)\n"
+        + "redis.call('HSET', KEYS[1], 'atualizadoEm', ARGV[5])\n"
+        + FIM_ESCRITA);
+
+    /** Apaga a trava só se ainda for nossa (pode ter expirado e sido pega por outro). */
+    private static final ScriptLua SCRIPT_LIBERAR_TRAVA = new ScriptLua(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end\n"
+        + "return 0\n");
+
+    /** Retorno dos scripts incrementais quando o jogo inteiro precisa ser gravado. */
+    private static final long GRAVAR_INTEIRO = -1L;
+
+    /** Espera antes de tentar assinar o canal de novo depois de uma queda. */
+    private static final long ESPERA_RECONEXAO_MS = 2000;
+
+    /** Configurações do cache local (L1). */
+    private static final boolean L1_HABILITADO = ConfiguracaoAplicacao.obterBooleano(
+            "cache.l1.habilitado", true);
+    private static final int L1_MAX_ENTRADAS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.l1.max_entradas", 10000);
+    private static final int L1_TEMPO_VIDA_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "cache.l1.ttl_segundos", 30);
+
+    /** Pool de conexões Redis (passa pelo disjuntor). */
+    private PoolRedisComDisjuntor jedisPool;
+
+    /** Disjuntor do Redis: com ele aberto, as chamadas falham na hora. */
+    private Disjuntor disjuntor;
+
+    /** Formato dos jogos guardados no Redis. */
+    private final CodecsJogo codecs = new CodecsJogo();
+
+    /** Cache local dos jogos (L1), na frente do Redis. */
+    private final CacheLocal<Long, JogoDTO> cacheLocal =
+            new CacheLocal<>(L1_MAX_ENTRADAS, L1_TEMPO_VIDA_SEGUNDOS);
+
+    /** Identifica este servidor nas mensagens de invalidação. */
+    private final String idServidor = UUID.randomUUID().toString();
+
+    /** Acertos e faltas no Redis (só conta o que passou pelo L1). */
+    private final LongAdder acertosRedis = new LongAdder();
+    private final LongAdder faltasRedis = new LongAdder();
 
-    /** Mapper para conversão JSON. */
-    private final ObjectMapper objectMapper;
+    /** Leituras que viraram recarga antecipada. */
+    private final LongAdder renovacoesAntecipadas = new LongAdder();
+
+    /** Consultas respondidas pela marca de ausência. */
+    private final LongAdder acertosAusentes = new LongAdder();
+
+    /** Interessados nos avisos de outros servidores (além do L1). */
+    private final List<OuvinteInvalidacao> ouvintes = new CopyOnWriteArrayList<>();
+
+    /** Se a escuta do canal de invalidação está de pé agora. */
+    private volatile boolean escutaAtiva;
+
+    /** Fábrica de threads do servidor, pra thread que escuta o canal. */
+    @Resource
+    private ManagedThreadFactory fabricaThreads;
+
+    /** Executor gerenciado do servidor, pra varredura das gerações velhas. */
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Geração atual das chaves de jogo (o valor de jogo:geracao no Redis). */
+    private volatile long geracao;
+
+    /** Tarefa agendada da varredura. */
+    private ScheduledFuture<?> tarefaVarredura;
+
+    /** Ajuda a só mexer no cache depois que a transação for confirmada. */
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    /** Escritas esperando pra ir pro Redis, uma por jogo. */
+    private final FilaEscrita filaEscrita = new FilaEscrita(
+            ESCRITA_ATRASADA_MAX_PENDENTES, ESCRITA_ATRASADA_LOTE, this::gravarLote);
+
+    /** Assinatura atual do canal de invalidação. */
+    private volatile JedisPubSub assinante;
+
+    /** Fica false quando a aplicação está descendo. */
+    private volatile boolean ativo;
 
     /**
-     * Construtor padrão.
-     * 
-     * Inicializa o ObjectMapper com suporte a tipos de data Java 8+.
-     * Preciso disso pra converter LocalDateTime pra JSON e vice-versa.
+     * Fica false quando a aplicação está descendo e a varredura para no
+     * meio. Separado do {@link #ativo}, que só liga com a escuta do L1.
      */
-    public RedisService() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-    }
+    private volatile boolean varreduraAtiva;
 
     /**
      * Inicializa o serviço Redis.
@@ -85,26 +369,39 @@ public class RedisService {
             poolConfig.setMaxTotal(MAX_TOTAL_CONNECTIONS);
             poolConfig.setMaxIdle(MAX_IDLE_CONNECTIONS);
             poolConfig.setMinIdle(MIN_IDLE_CONNECTIONS);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
+            poolConfig.setTestOnBorrow(false);
+            poolConfig.setTestOnReturn(false);
             poolConfig.setTestWhileIdle(true);
+            poolConfig.setNumTestsPerEvictionRun(MAX_IDLE_CONNECTIONS);
             poolConfig.setMinEvictableIdleTime(
                     Duration.ofMinutes(MIN_EVICTABLE_IDLE_TIME_MINUTES));
             poolConfig.setTimeBetweenEvictionRuns(
-                    Duration.ofMinutes(EVICTION_RUN_INTERVAL_MINUTES));
+                    Duration.ofSeconds(VALIDACAO_OCIOSAS_SEGUNDOS));
 
-            if (password != null && !password.isEmpty()) {
-                jedisPool = new JedisPool(poolConfig, host, port, 
-                        CONNECTION_TIMEOUT_MS, password);
-            } else {
-                jedisPool = new JedisPool(poolConfig, host, port, 
-                        CONNECTION_TIMEOUT_MS);
+            disjuntor = new Disjuntor("Redis", DISJUNTOR_FALHAS, DISJUNTOR_SONDA_MS,
+                    () -> jedisPool.responde(), fabricaThreads);
+            jedisPool = new PoolRedisComDisjuntor(poolConfig, host, port, CONNECTION_TIMEOUT_MS,
+                    password == null || password.isEmpty() ? null : password, disjuntor);
+
+            // A escuta e a fila tentam de novo sozinhas, então sobem mesmo com o Redis fora
+            if (L1_HABILITADO) {
+                iniciarEscutaInvalidacoes();
+            }
+            if (ESCRITA_ATRASADA) {
+                filaEscrita.iniciar(fabricaThreads);
+            }
+
+            varreduraAtiva = true;
+            if (agendador != null) {
+                tarefaVarredura = agendador.scheduleWithFixedDelay(this::varrerComSeguranca,
+                        1, VARREDURA_INTERVALO_MINUTOS, TimeUnit.MINUTES);
             }
 
             // Testar conexão
             try (Jedis jedis = jedisPool.getResource()) {
-                jedis.ping();
-                LOGGER.info("Redis inicializado com sucesso em {}:{}", host, port);
+                adotarGeracao(jedis.get(CHAVE_GERACAO));
+                LOGGER.info("Redis inicializado com sucesso em {}:{} (codec {}, geração {})", 
+                        host, port, codecs.getNomeEscrita(), geracao);
             }
 
         } catch (Exception e) {
@@ -113,37 +410,57 @@ public class RedisService {
     }
 
     /**
-     * Armazena o placar de um jogo no cache.
+     * Atualiza só o placar do jogo no cache (PUT do placar).
      * 
-     * @param jogoId ID do jogo
-     * @param placarA Placar do time A
-     * @param placarB Placar do time B
+     * Manda os dois placares, a versão e a data, não o jogo inteiro.
+     * O script só aplica se o cache estiver exatamente uma versão
+     * atrás do banco; se estiver mais atrás (perdeu alguma escrita)
+     * ou não tiver o jogo, grava o jogo inteiro.
+     * 
+     * <p>Roda depois do commit e em segundo plano: ver
+     * {@link #agendar}.</p>
+     * 
+     * @param jogo DTO do jogo já com o placar novo (como ficou no banco)
      */
-    public void armazenarPlacar(final Long jogoId, final Integer placarA, 
-            final Integer placarB) {
-        try (Jedis jedis = jedisPool.getResource()) {
-            String chave = PREFIXO_PLACAR + jogoId;
-            String valor = placarA + ":" + placarB;
-            jedis.setex(chave, TEMPO_EXPIRACAO, valor);
-            LOGGER.debug("Placar armazenado no Redis: {} = {}", chave, valor);
-        } catch (Exception e) {
-            LOGGER.error("Erro ao armazenar placar no Redis", e);
-        }
+    public void atualizarPlacar(final JogoDTO jogo) {
+        agendar(EscritaPendente.placar(jogo));
+    }
+
+    /**
+     * Soma um gol no cache com HINCRBY, junto com a versão, num script só.
+     * 
+     * Só o nome do campo e a versão nova vão pela rede. Se o cache não
+     * estiver exatamente uma versão atrás (outro gol chegou antes, ou
+     * o jogo nem está no cache), grava o jogo inteiro que veio do
+     * banco, que já conta todos os gols. Se outro gol do mesmo jogo
+     * ainda estiver na fila, os dois viram uma gravação só do jogo
+     * inteiro.
+     * 
+     * @param jogo DTO do jogo como ficou no banco depois do gol
+     * @param lado Time que marcou
+     */
+    public void registrarGol(final JogoDTO jogo, final LadoPlacar lado) {
+        agendar(EscritaPendente.gol(jogo, lado));
     }
 
     /**
      * Recupera o placar de um jogo do cache.
      * 
+     * Lê só os dois campos de placar do hash, sem trazer o jogo.
+     * 
      * @param jogoId ID do jogo
      * @return Optional contendo o placar no formato "A:B" ou vazio se não encontrado
      */
     public Optional<String> recuperarPlacar(final Long jogoId) {
         try (Jedis jedis = jedisPool.getResource()) {
-            String chave = PREFIXO_PLACAR + jogoId;
-            String valor = jedis.get(chave);
-            return Optional.ofNullable(valor);
+            List<String> placar = jedis.hmget(prefixoGeracao() + SUFIXO_JOGO + jogoId, 
+                    CAMPO_PLACAR_A, CAMPO_PLACAR_B);
+            if (placar.get(0) == null || placar.get(1) == null) {
+                return Optional.empty();
+            }
+            return Optional.of(placar.get(0) + ":" + placar.get(1));
         } catch (Exception e) {
-            LOGGER.error("Erro ao recuperar placar do Redis", e);
+            logarErro(e, "Erro ao recuperar placar do Redis");
             return Optional.empty();
         }
     }
@@ -151,72 +468,513 @@ public class RedisService {
     /**
      * Armazena dados completos de um jogo no cache.
      * 
+     * Não sobrescreve o cache se ele já tiver uma versão mais nova
+     * do jogo (escritas concorrentes chegando fora de ordem). Roda
+     * depois do commit e em segundo plano: ver {@link #agendar}.
+     * 
      * @param jogo DTO do jogo a ser armazenado
      */
     public void armazenarJogo(final JogoDTO jogo) {
-        try (Jedis jedis = jedisPool.getResource()) {
-            String chave = PREFIXO_JOGO + jogo.getId();
-            String valor = objectMapper.writeValueAsString(jogo);
-            jedis.setex(chave, TEMPO_EXPIRACAO, valor);
-            LOGGER.debug("Jogo armazenado no Redis: {} = {}", chave, valor);
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Erro ao serializar jogo para JSON", e);
-        } catch (Exception e) {
-            LOGGER.error("Erro ao armazenar jogo no Redis", e);
+        agendar(EscritaPendente.gravar(jogo));
+    }
+
+    /**
+     * Grava jogos recém-criados, depois do commit e sem passar pela fila.
+     * 
+     * Criação não fica pra depois: o aviso que sai desta gravação é o
+     * que ensina aos outros servidores que o ID existe (o filtro de
+     * IDs deles), então precisa ter saído antes da resposta chegar ao
+     * cliente. Apaga também as marcas de ausência dos IDs.
+     * 
+     * @param jogos DTOs dos jogos criados
+     */
+    public void armazenarJogosCriados(final Collection<JogoDTO> jogos) {
+        List<JogoDTO> copia = List.copyOf(jogos);
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            limparAusencias(copia.stream().map(JogoDTO::getId).collect(Collectors.toList()));
+            armazenarJogos(copia);
+        });
+    }
+
+    /**
+     * Armazena vários jogos no cache numa única ida ao Redis.
+     * 
+     * Usa pipeline: manda todas as gravações juntas e só espera as
+     * respostas no final, em vez de pagar um round trip por jogo.
+     * 
+     * @param jogos DTOs dos jogos a serem armazenados
+     */
+    public void armazenarJogos(final Collection<JogoDTO> jogos) {
+        if (gravarEmLote(jogos, true)) {
+            jogos.forEach(this::guardarNoL1);
+            LOGGER.debug("{} jogos armazenados no Redis via pipeline", jogos.size());
+        }
+    }
+
+    /**
+     * Coloca no cache jogos lidos do banco, sem passar por cima de versão mais nova.
+     * 
+     * Se uma escrita de placar chegou no Redis enquanto o jogo era
+     * lido do banco, a versão dela (mais nova) fica. Como nada mudou
+     * de verdade, não avisa os outros servidores.
+     * 
+     * @param jogos DTOs lidos do banco
+     */
+    public void armazenarJogosSeMaisNovos(final Collection<JogoDTO> jogos) {
+        if (gravarEmLote(jogos, false) && L1_HABILITADO) {
+            jogos.forEach(jogo -> cacheLocal.guardarSeAusente(jogo.getId(), jogo));
         }
     }
 
     /**
      * Recupera dados de um jogo do cache.
      * 
+     * Olha primeiro o L1 (sem rede nem conversão); só vai ao Redis se o
+     * jogo não estiver lá, e aí guarda no L1 o que achou. O DTO
+     * devolvido pode ser compartilhado entre requisições, então
+     * não deve ser alterado.
+     * 
+     * Perto de expirar, o Redis pode devolver vazio de propósito pra
+     * quem chamou recarregar antes (ver cache.renovacao.*).
+     * 
      * @param jogoId ID do jogo
      * @return Optional contendo o DTO do jogo ou vazio se não encontrado
      */
     public Optional<JogoDTO> recuperarJogo(final Long jogoId) {
+        if (L1_HABILITADO) {
+            JogoDTO local = cacheLocal.obter(jogoId);
+            if (local != null) {
+                return Optional.of(local);
+            }
+        }
         try (Jedis jedis = jedisPool.getResource()) {
-            String chave = PREFIXO_JOGO + jogoId;
-            String valor = jedis.get(chave);
-            if (valor != null) {
-                JogoDTO jogo = objectMapper.readValue(valor, JogoDTO.class);
+            Pipeline pipeline = jedis.pipelined();
+            Response<List<byte[]>> campos = pipeline.hmget(chaveJogo(jogoId), CAMPOS_JOGO);
+            Response<Long> ttl = pipeline.pttl(chaveJogo(jogoId));
+            Response<String> geracaoAtual = pipeline.get(CHAVE_GERACAO);
+            pipeline.sync();
+
+            if (!adotarGeracao(geracaoAtual.get())) {
+                // Cache invalidado e o aviso não chegou aqui: o que veio é da geração velha
+                faltasRedis.increment();
+                return Optional.empty();
+            }
+            JogoDTO jogo = montarJogoOuNulo(jogoId, campos.get());
+            if (jogo != null && renovarAntes(ttl.get())) {
+                renovacoesAntecipadas.increment();
+                return Optional.empty();
+            }
+            if (jogo != null) {
+                acertosRedis.increment();
+                if (L1_HABILITADO) {
+                    // Se uma escrita daqui já pôs um jogo mais novo no L1, ele fica
+                    cacheLocal.guardarSeAusente(jogoId, jogo);
+                }
                 return Optional.of(jogo);
             }
-            return Optional.empty();
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Erro ao deserializar jogo do JSON", e);
+            faltasRedis.increment();
             return Optional.empty();
         } catch (Exception e) {
-            LOGGER.error("Erro ao recuperar jogo do Redis", e);
+            logarErro(e, "Erro ao recuperar jogo do Redis");
             return Optional.empty();
         }
     }
 
     /**
-     * Remove um jogo do cache.
+     * Recupera vários jogos do cache de uma vez.
+     * 
+     * O que estiver no L1 sai de lá; o resto vem do Redis com um
+     * HMGET por jogo, todos no mesmo pipeline, ou seja, uma ida ao
+     * Redis pra lista inteira.
+     * 
+     * @param jogoIds IDs dos jogos
+     * @return Mapa ID -> jogo só com os jogos encontrados
+     */
+    public Map<Long, JogoDTO> recuperarJogos(final Collection<Long> jogoIds) {
+        Map<Long, JogoDTO> encontrados = new HashMap<>();
+        if (jogoIds == null || jogoIds.isEmpty()) {
+            return encontrados;
+        }
+
+        List<Long> faltando = new ArrayList<>();
+        for (Long id : jogoIds) {
+            JogoDTO local = L1_HABILITADO ? cacheLocal.obter(id) : null;
+            if (local != null) {
+                encontrados.put(id, local);
+            } else {
+                faltando.add(id);
+            }
+        }
+        if (faltando.isEmpty()) {
+            return encontrados;
+        }
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<List<byte[]>>> respostas = new ArrayList<>(faltando.size());
+            List<Response<Long>> ttls = new ArrayList<>(faltando.size());
+            for (Long id : faltando) {
+                respostas.add(pipeline.hmget(chaveJogo(id), CAMPOS_JOGO));
+                ttls.add(pipeline.pttl(chaveJogo(id)));
+            }
+            Response<String> geracaoAtual = pipeline.get(CHAVE_GERACAO);
+            pipeline.sync();
+
+            if (!adotarGeracao(geracaoAtual.get())) {
+                faltasRedis.add(faltando.size());
+                return encontrados;
+            }
+
+            for (int i = 0; i < faltando.size(); i++) {
+                Long id = faltando.get(i);
+                JogoDTO jogo = montarJogoOuNulo(id, respostas.get(i).get());
+                if (jogo == null) {
+                    faltasRedis.increment();
+                    continue;
+                }
+                if (renovarAntes(ttls.get(i).get())) {
+                    // Fica de fora: quem chamou recarrega do banco e grava de novo
+                    renovacoesAntecipadas.increment();
+                    continue;
+                }
+                acertosRedis.increment();
+                if (L1_HABILITADO) {
+                    cacheLocal.guardarSeAusente(id, jogo);
+                }
+                encontrados.put(id, jogo);
+            }
+        } catch (Exception e) {
+            logarErro(e, "Erro ao recuperar jogos do Redis");
+        }
+        return encontrados;
+    }
+
+    /**
+     * Tenta pegar a trava de carga de um jogo (SET NX com validade curta).
+     * 
+     * Com a trava, este servidor carrega o jogo do banco e grava no
+     * cache; os outros esperam o resultado aparecer no Redis. Se o
+     * Redis estiver fora, devolve uma trava mesmo assim: sem cache não
+     * tem o que esperar.
+     * 
+     * @param jogoId ID do jogo
+     * @return Código da trava (pra liberar depois) ou vazio se outro servidor já está carregando
+     */
+    public Optional<String> travarCarga(final Long jogoId) {
+        String codigo = UUID.randomUUID().toString();
+        try (Jedis jedis = jedisPool.getResource()) {
+            String resposta = jedis.set(PREFIXO_TRAVA + jogoId, codigo, 
+                    SetParams.setParams().nx().px(TRAVA_VALIDADE_MS));
+            return "OK".equals(resposta) ? Optional.of(codigo) : Optional.empty();
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao pegar trava de carga no Redis: {}", e.getMessage());
+            return Optional.of(codigo);
+        }
+    }
+
+    /**
+     * Libera a trava de carga, se ela ainda for deste servidor.
+     */
+    public void liberarCarga(final Long jogoId, final String codigo) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            SCRIPT_LIBERAR_TRAVA.executar(jedis, bytes(PREFIXO_TRAVA + jogoId), List.of(bytes(codigo)));
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao liberar trava de carga no Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Espera outro servidor terminar de carregar o jogo no cache.
+     * 
+     * Consulta o Redis a cada 25ms até cache.trava.espera_ms. Se não
+     * aparecer nesse tempo, quem chamou vai no banco. A conexão é
+     * pega a cada consulta e devolvida antes de dormir: numa corrida
+     * por um jogo quente, quem espera não segura conexão do pool.
+     * 
+     * @param jogoId ID do jogo
+     * @return O jogo, se apareceu no cache a tempo
+     */
+    public Optional<JogoDTO> aguardarCarga(final Long jogoId) {
+        long limite = System.nanoTime() + TRAVA_ESPERA_MS * 1_000_000L;
+        try {
+            while (System.nanoTime() - limite < 0) {
+                Thread.sleep(TRAVA_INTERVALO_MS);
+                JogoDTO jogo;
+                try (Jedis jedis = jedisPool.getResource()) {
+                    jogo = montarJogoOuNulo(jogoId, jedis.hmget(chaveJogo(jogoId), CAMPOS_JOGO));
+                }
+                if (jogo != null) {
+                    acertosRedis.increment();
+                    return Optional.of(jogo);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao esperar carga do jogo {} no Redis: {}", jogoId, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Marca que o jogo não existe, por cache.negativo.ttl_segundos.
+     * 
+     * Pra ID apagado ou que nunca existiu: as próximas consultas
+     * param aqui em vez de irem no banco.
+     * 
+     * @param jogoId ID procurado e não encontrado
+     */
+    public void marcarAusente(final Long jogoId) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.setex(chaveAusente(jogoId), AUSENTE_TTL_SEGUNDOS, "1");
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao marcar jogo {} como ausente no Redis: {}", jogoId, e.getMessage());
+        }
+    }
+
+    /**
+     * Diz se o jogo está marcado como inexistente.
+     * 
+     * @param jogoId ID do jogo
+     * @return true se uma consulta recente já não achou o jogo no banco
+     */
+    public boolean estaAusente(final Long jogoId) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            if (jedis.exists(chaveAusente(jogoId))) {
+                acertosAusentes.increment();
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao consultar ausência do jogo {} no Redis: {}", jogoId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Apaga as marcas de ausência (jogos acabaram de ser criados com esses IDs).
+     * 
+     * @param jogoIds IDs dos jogos criados
+     */
+    public void limparAusencias(final Collection<Long> jogoIds) {
+        if (jogoIds == null || jogoIds.isEmpty()) {
+            return;
+        }
+        String[] chaves = jogoIds.stream().map(this::chaveAusente).toArray(String[]::new);
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (int inicio = 0; inicio < chaves.length; inicio += MEMBROS_POR_COMANDO) {
+                pipeline.del(Arrays.copyOfRange(chaves, inicio, 
+                        Math.min(inicio + MEMBROS_POR_COMANDO, chaves.length)));
+            }
+            pipeline.sync();
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao limpar marcas de ausência no Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra quem quer receber os avisos de outros servidores.
+     */
+    public void registrarOuvinte(final OuvinteInvalidacao ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Se a escuta dos avisos de outros servidores está de pé (só existe com o L1 ligado).
+     */
+    public boolean isEscutaAtiva() {
+        return escutaAtiva;
+    }
+
+    /**
+     * Remove um jogo do cache e marca o ID como ausente.
+     * 
+     * Vai pela mesma fila das escritas, então uma escrita do jogo que
+     * ainda estava esperando é descartada em vez de recriar o jogo
+     * depois da remoção.
      * 
      * @param jogoId ID do jogo a ser removido
      */
     public void removerJogo(final Long jogoId) {
+        agendar(EscritaPendente.remover(jogoId));
+    }
+
+    /**
+     * Põe jogos em andamento no painel ao vivo.
+     * 
+     * O que não estiver em andamento é ignorado. Jogo que já está
+     * no painel só tem o score atualizado.
+     * 
+     * @param jogos DTOs dos jogos
+     */
+    public void adicionarAoPainel(final Collection<JogoDTO> jogos) {
+        Map<String, Double> membros = new HashMap<>();
+        for (JogoDTO jogo : jogos) {
+            if (jogo.getId() != null && jogo.getStatus() == StatusJogo.EM_ANDAMENTO) {
+                membros.put(String.valueOf(jogo.getId()), pontuacaoPainel(jogo));
+            }
+        }
+        if (membros.isEmpty()) {
+            return;
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            Map<String, Double> bloco = new HashMap<>();
+            for (Map.Entry<String, Double> membro : membros.entrySet()) {
+                bloco.put(membro.getKey(), membro.getValue());
+                if (bloco.size() == MEMBROS_POR_COMANDO) {
+                    pipeline.zadd(CHAVE_PAINEL, bloco);
+                    bloco = new HashMap<>();
+                }
+            }
+            if (!bloco.isEmpty()) {
+                pipeline.zadd(CHAVE_PAINEL, bloco);
+            }
+            pipeline.sync();
+            LOGGER.debug("{} jogos adicionados ao painel ao vivo", membros.size());
+        } catch (Exception e) {
+            logarErro(e, "Erro ao adicionar jogos ao painel no Redis");
+        }
+    }
+
+    /**
+     * Tira jogos do painel ao vivo (encerrados ou removidos).
+     * 
+     * @param jogoIds IDs dos jogos
+     */
+    public void removerDoPainel(final Collection<Long> jogoIds) {
+        if (jogoIds == null || jogoIds.isEmpty()) {
+            return;
+        }
+        List<String> membros = jogoIds.stream().map(String::valueOf).toList();
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (int inicio = 0; inicio < membros.size(); inicio += MEMBROS_POR_COMANDO) {
+                pipeline.zrem(CHAVE_PAINEL, membros.subList(inicio, 
+                        Math.min(inicio + MEMBROS_POR_COMANDO, membros.size()))
+                        .toArray(new String[0]));
+            }
+            pipeline.sync();
+        } catch (Exception e) {
+            logarErro(e, "Erro ao remover jogos do painel no Redis");
+        }
+    }
+
+    /**
+     * Lista os IDs do painel ao vivo, da partida mais recente pra mais antiga.
+     * 
+     * @return IDs do painel, ou vazio se o painel não existir (sorted
+     *         set vazio some do Redis) ou o Redis estiver fora: aí quem
+     *         chama busca no banco
+     */
+    public Optional<List<Long>> listarPainel() {
         try (Jedis jedis = jedisPool.getResource()) {
-            jedis.del(PREFIXO_PLACAR + jogoId);
-            jedis.del(PREFIXO_JOGO + jogoId);
-            LOGGER.debug("Jogo removido do Redis: {}", jogoId);
+            List<String> membros = jedis.zrevrange(CHAVE_PAINEL, 0, -1);
+            if (membros == null || membros.isEmpty()) {
+                return Optional.empty();
+            }
+            List<Long> ids = new ArrayList<>(membros.size());
+            for (String membro : membros) {
+                ids.add(Long.valueOf(membro));
+            }
+            return Optional.of(ids);
         } catch (Exception e) {
-            LOGGER.error("Erro ao remover jogo do Redis", e);
+            logarErro(e, "Erro ao ler painel ao vivo do Redis");
+            return Optional.empty();
         }
     }
 
     /**
-     * Limpa todo o cache.
+     * Limpa todo o cache de jogos.
      * 
-     * <p><strong>Atenção:</strong> Esta operação remove todos os dados
-     * armazenados no Redis.</p>
+     * <p>Não apaga nada na hora: sobe a geração das chaves de jogo
+     * (um INCR) e avisa os outros servidores, que passam a ler e
+     * gravar na geração nova. As chaves velhas a varredura apaga aos
+     * poucos. Outros dados no mesmo Redis (de outros serviços, o
+     * painel ao vivo) não são tocados.</p>
      */
     public void limparCache() {
+        cacheLocal.limpar();
         try (Jedis jedis = jedisPool.getResource()) {
-            jedis.flushAll();
-            LOGGER.info("Cache Redis limpo com sucesso");
+            geracao = jedis.incr(CHAVE_GERACAO);
+            jedis.publish(CANAL_INVALIDACAO, idServidor + SEPARADOR_INVALIDACAO + INVALIDAR_TUDO);
+            LOGGER.info("Cache Redis invalidado: jogos agora na geração {}", geracao);
         } catch (Exception e) {
-            LOGGER.error("Erro ao limpar cache Redis", e);
+            logarErro(e, "Erro ao limpar cache Redis");
+            return;
+        }
+        if (agendador != null) {
+            agendador.execute(this::varrerComSeguranca);
+        }
+    }
+
+    /**
+     * Apaga as chaves de jogo de gerações velhas (e as de antes da geração existir).
+     * 
+     * <p>Anda pelo Redis com SCAN, poucas chaves por vez e com pausa
+     * entre uma rodada e outra, e apaga com UNLINK (a memória é
+     * liberada fora da thread principal do Redis). Um servidor por
+     * vez, com trava; se não tiver geração nova desde a última
+     * varredura completa, nem começa.</p>
+     * 
+     * @return Quantidade de chaves apagadas
+     */
+    public long varrerGeracoesAntigas() {
+        long atual;
+        String codigo = UUID.randomUUID().toString();
+        try (Jedis jedis = jedisPool.getResource()) {
+            atual = numeroGeracao(jedis.get(CHAVE_GERACAO));
+            String varrida = jedis.get(CHAVE_GERACAO_VARRIDA);
+            if (varrida != null && numeroGeracao(varrida) >= atual) {
+                return 0;
+            }
+            if (!"OK".equals(jedis.set(TRAVA_VARREDURA, codigo, 
+                    SetParams.setParams().nx().px(TRAVA_VARREDURA_MS)))) {
+                return 0;
+            }
+        }
+
+        long apagadas = 0;
+        ScanParams parametros = new ScanParams().match("jogo:*").count(VARREDURA_CHAVES_POR_SCAN);
+        String cursor = ScanParams.SCAN_POINTER_START;
+        try {
+            do {
+                try (Jedis jedis = jedisPool.getResource()) {
+                    if (!codigo.equals(jedis.get(TRAVA_VARREDURA))) {
+                        LOGGER.warn("Trava da varredura expirou, parando");
+                        return apagadas;
+                    }
+                    jedis.pexpire(TRAVA_VARREDURA, TRAVA_VARREDURA_MS);
+                    ScanResult<String> rodada = jedis.scan(cursor, parametros);
+                    cursor = rodada.getCursor();
+                    String[] velhas = rodada.getResult().stream()
+                            .filter(chave -> ehDeGeracaoVelha(chave, atual))
+                            .toArray(String[]::new);
+                    if (velhas.length > 0) {
+                        apagadas += jedis.unlink(velhas);
+                    }
+                }
+                Thread.sleep(VARREDURA_PAUSA_MS);
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor) && varreduraAtiva);
+
+            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
+                try (Jedis jedis = jedisPool.getResource()) {
+                    jedis.set(CHAVE_GERACAO_VARRIDA, String.valueOf(atual));
+                }
+                LOGGER.info("Varredura do cache: {} chaves de gerações anteriores a {} apagadas",
+                        apagadas, atual);
+            }
+            return apagadas;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return apagadas;
+        } finally {
+            try (Jedis jedis = jedisPool.getResource()) {
+                SCRIPT_LIBERAR_TRAVA.executar(jedis, bytes(TRAVA_VARREDURA), List.of(bytes(codigo)));
+            } catch (Exception e) {
+                logarAviso(e, "Erro ao liberar trava da varredura: {}", e.getMessage());
+            }
         }
     }
 
@@ -226,6 +984,9 @@ public class RedisService {
      * @return true se o Redis estiver acessível, false caso contrário
      */
     public boolean isDisponivel() {
+        if (disjuntor == null || disjuntor.isAberto()) {
+            return false;
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             jedis.ping();
             return true;
@@ -243,21 +1004,506 @@ public class RedisService {
         try (Jedis jedis = jedisPool.getResource()) {
             return jedis.info();
         } catch (Exception e) {
-            LOGGER.error("Erro ao obter estatísticas do Redis", e);
+            logarErro(e, "Erro ao obter estatísticas do Redis");
             return "Erro ao obter estatísticas";
         }
     }
 
+    /**
+     * Obtém a taxa de acerto de cada camada do cache.
+     * 
+     * A camada Redis só conta as consultas que o L1 não resolveu.
+     * 
+     * @return Acertos, faltas e taxa de acerto do L1 e do Redis
+     */
+    public Map<String, Object> obterEstatisticasCamadas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("l1.acertos", cacheLocal.getAcertos());
+        resultado.put("l1.faltas", cacheLocal.getFaltas());
+        resultado.put("l1.taxaAcerto", cacheLocal.getTaxaAcerto());
+        resultado.put("l1.tamanho", cacheLocal.tamanho());
+        resultado.put("l1.remocoesPorTamanho", cacheLocal.getRemocoesPorTamanho());
+
+        long acertos = acertosRedis.sum();
+        long total = acertos + faltasRedis.sum();
+        resultado.put("redis.acertos", acertos);
+        resultado.put("redis.faltas", total - acertos);
+        resultado.put("redis.taxaAcerto", total == 0 ? 0.0 : (double) acertos / total);
+        resultado.put("redis.renovacoesAntecipadas", renovacoesAntecipadas.sum());
+        resultado.put("redis.acertosAusentes", acertosAusentes.sum());
+        resultado.put("escrita.pendentes", filaEscrita.getPendentes());
+        resultado.put("escrita.maiorFila", filaEscrita.getMaiorTamanho());
+        resultado.put("escrita.enfileiradas", filaEscrita.getEnfileiradas());
+        resultado.put("escrita.juntadas", filaEscrita.getJuntadas());
+        resultado.put("escrita.gravadas", filaEscrita.getGravadas());
+        resultado.put("escrita.lotes", filaEscrita.getLotes());
+        resultado.put("escrita.lotesComFalha", filaEscrita.getLotesComFalha());
+        resultado.put("escrita.transbordos", filaEscrita.getTransbordos());
+        if (disjuntor != null) {
+            resultado.put("redis.disjuntor.aberto", disjuntor.isAberto());
+            resultado.put("redis.disjuntor.aberturas", disjuntor.getAberturas());
+            resultado.put("redis.disjuntor.rejeitadas", disjuntor.getRejeitadas());
+        }
+        return resultado;
+    }
+
     /**
      * Destrói o serviço e libera recursos.
      * 
-     * <p>Fecha o pool de conexões Redis.</p>
+     * <p>Para a escuta das invalidações e fecha o pool de conexões Redis.</p>
      */
     @PreDestroy
     public void destruir() {
+        ativo = false;
+        varreduraAtiva = false;
+        if (tarefaVarredura != null) {
+            tarefaVarredura.cancel(false);
+        }
+        filaEscrita.parar();
+        if (disjuntor != null) {
+            disjuntor.desligar();
+        }
+        JedisPubSub atual = assinante;
+        if (atual != null && atual.isSubscribed()) {
+            atual.unsubscribe();
+        }
         if (jedisPool != null) {
             jedisPool.close();
             LOGGER.info("Pool Redis fechado");
         }
     }
+
+    private String prefixoGeracao() {
+        return PREFIXO_GERACAO + geracao + ":";
+    }
+
+    private byte[] chaveJogo(final Long jogoId) {
+        return bytes(prefixoGeracao() + SUFIXO_JOGO + jogoId);
+    }
+
+    private String chaveAusente(final Long jogoId) {
+        return prefixoGeracao() + SUFIXO_AUSENTE + jogoId;
+    }
+
+    /**
+     * Passa a usar a geração que está no Redis (ele é quem manda,
+     * mesmo que tenha voltado pra trás depois de perder os dados).
+     * 
+     * @return true se já era a geração em uso
+     */
+    private boolean adotarGeracao(final String valor) {
+        long noRedis = numeroGeracao(valor);
+        if (noRedis == geracao) {
+            return true;
+        }
+        LOGGER.info("Geração das chaves de jogo mudou de {} para {}", geracao, noRedis);
+        geracao = noRedis;
+        cacheLocal.limpar();
+        return false;
+    }
+
+    /** Lê a geração de novo (depois de um "invalidar tudo" ou de a escuta voltar). */
+    private void recarregarGeracao() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            adotarGeracao(jedis.get(CHAVE_GERACAO));
+        } catch (Exception e) {
+            logarAviso(e, "Erro ao ler geração do cache no Redis: {}", e.getMessage());
+        }
+    }
+
+    private static long numeroGeracao(final String valor) {
+        try {
+            return valor == null ? 0 : Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** jogo:g{n}:... com n menor que a atual, ou chave do formato sem geração. */
+    private static boolean ehDeGeracaoVelha(final String chave, final long atual) {
+        for (String prefixo : PREFIXOS_SEM_GERACAO) {
+            if (chave.startsWith(prefixo)) {
+                return true;
+            }
+        }
+        if (!chave.startsWith(PREFIXO_GERACAO)) {
+            return false;
+        }
+        int fim = chave.indexOf(':', PREFIXO_GERACAO.length());
+        if (fim <= PREFIXO_GERACAO.length()) {
+            return false;
+        }
+        String numero = chave.substring(PREFIXO_GERACAO.length(), fim);
+        if (!numero.chars().allMatch(Character::isDigit)) {
+            // jogo:geracao e afins
+            return false;
+        }
+        return numeroGeracao(numero) < atual;
+    }
+
+    private void varrerComSeguranca() {
+        try {
+            varrerGeracoesAntigas();
+        } catch (Exception e) {
+            logarAviso(e, "Erro na varredura das gerações antigas do cache: {}", e.getMessage());
+        }
+    }
+
+    /** Valor como texto UTF-8 (é o que HINCRBY e tonumber entendem); null vira vazio. */
+    private static byte[] bytes(final Object valor) {
+        return valor == null ? VAZIO : String.valueOf(valor).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * TTL do jogo pelo status, com a variação sorteada de
+     * cache.ttl_variacao_percentual. Status desconhecido fica com o
+     * TTL curto, de jogo em andamento.
+     */
+    private static byte[] ttlComVariacao(final JogoDTO jogo) {
+        int ttl = jogo.getStatus() == StatusJogo.ENCERRADO ? TTL_ENCERRADO : TTL_EM_ANDAMENTO;
+        if (ttl <= 0) {
+            return bytes(0);
+        }
+        int variacao = (int) ((long) ttl * VARIACAO_TTL_PERCENTUAL / 100);
+        if (variacao > 0) {
+            ttl += ThreadLocalRandom.current().nextInt(-variacao, variacao + 1);
+        }
+        return bytes(Math.max(ttl, 1));
+    }
+
+    /**
+     * Sorteio do XFetch: renova se custo * beta * -ln(aleatório) passar
+     * do tempo que falta. Longe do fim a chance é praticamente zero.
+     * 
+     * @param ttlRestanteMs resultado do PTTL (negativo = sem expiração ou sem chave)
+     */
+    private static boolean renovarAntes(final Long ttlRestanteMs) {
+        if (ttlRestanteMs == null || ttlRestanteMs < 0 || RENOVACAO_CUSTO_MS <= 0) {
+            return false;
+        }
+        double sorteio = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return RENOVACAO_CUSTO_MS * (RENOVACAO_BETA_PERCENTUAL / 100.0) * sorteio >= ttlRestanteMs;
+    }
+
+    /** Início da partida em segundos (UTC só pra ordenar, tanto faz o fuso). */
+    private static double pontuacaoPainel(final JogoDTO jogo) {
+        return jogo.getDataHoraPartida() == null 
+                ? 0 : jogo.getDataHoraPartida().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String texto(final byte[] valor) {
+        return valor == null || valor.length == 0 
+                ? null : new String(valor, StandardCharsets.UTF_8);
+    }
+
+    private byte[] aviso(final Long jogoId) {
+        return L1_HABILITADO ? bytes(idServidor + SEPARADOR_INVALIDACAO + jogoId) : VAZIO;
+    }
+
+    private List<byte[]> argumentosGravar(final JogoDTO jogo, final boolean avisar) 
+            throws IOException {
+        return List.of(ttlComVariacao(jogo), avisar ? aviso(jogo.getId()) : VAZIO,
+                bytes(jogo.getVersao()), codecs.codificar(jogo),
+                bytes(jogo.getPlacarA()), bytes(jogo.getPlacarB()),
+                bytes(jogo.getDataAtualizacao()));
+    }
+
+    /**
+     * Manda a escrita pro Redis depois do commit, sem segurar a requisição.
+     * 
+     * No commit o L1 daqui já fica certo; o Redis e os outros
+     * servidores recebem quando a fila gravar o lote. Com a fila
+     * cheia (ou desligada) grava direto, na thread de quem chamou.
+     */
+    private void agendar(final EscritaPendente escrita) {
+        sincronizacaoTransacao.executarAposCommit(() -> {
+            if (escrita.getTipo() == EscritaPendente.Tipo.REMOVER) {
+                cacheLocal.remover(escrita.getJogoId());
+            } else {
+                guardarNoL1(escrita.getJogo());
+            }
+            if (ESCRITA_ATRASADA && filaEscrita.enfileirar(escrita)) {
+                return;
+            }
+            try {
+                gravarLote(List.of(escrita));
+            } catch (Exception e) {
+                logarErro(e, "Erro ao gravar jogo {} no Redis", escrita.getJogoId());
+            }
+        });
+    }
+
+    /**
+     * Grava um lote de escritas num pipeline só.
+     * 
+     * Cada escrita usa o seu script (jogo inteiro, placar ou gol) ou,
+     * na remoção, DEL + marca de ausência + aviso. Os incrementais que
+     * pedirem o jogo inteiro vão num segundo pipeline. Lança exceção
+     * se o Redis não respondeu (a fila tenta de novo).
+     */
+    private void gravarLote(final List<EscritaPendente> lote) throws IOException {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            List<EscritaPendente> comScript = new ArrayList<>(lote.size());
+            List<List<byte[]>> argumentos = new ArrayList<>(lote.size());
+            List<Response<Object>> respostas = new ArrayList<>(lote.size());
+            for (EscritaPendente escrita : lote) {
+                Long jogoId = escrita.getJogoId();
+                if (escrita.getTipo() == EscritaPendente.Tipo.REMOVER) {
+                    pipeline.del(chaveJogo(jogoId));
+                    pipeline.setex(chaveAusente(jogoId), AUSENTE_TTL_SEGUNDOS, "1");
+                    publicarInvalidacao(pipeline, String.valueOf(jogoId));
+                    continue;
+                }
+                List<byte[]> args = argumentosEscrita(escrita);
+                comScript.add(escrita);
+                argumentos.add(args);
+                respostas.add(script(escrita).noPipeline(pipeline, chaveJogo(jogoId), args));
+            }
+            pipeline.sync();
+
+            List<JogoDTO> inteiros = new ArrayList<>();
+            for (int i = 0; i < comScript.size(); i++) {
+                EscritaPendente escrita = comScript.get(i);
+                Object resultado = script(escrita).resultado(jedis, respostas.get(i),
+                        chaveJogo(escrita.getJogoId()), argumentos.get(i));
+                if (escrita.getTipo() != EscritaPendente.Tipo.GRAVAR 
+                        && resultado instanceof Long && (Long) resultado == GRAVAR_INTEIRO) {
+                    inteiros.add(escrita.getJogo());
+                }
+            }
+            if (!inteiros.isEmpty()) {
+                List<byte[]> chaves = new ArrayList<>(inteiros.size());
+                List<List<byte[]>> argumentosInteiros = new ArrayList<>(inteiros.size());
+                for (JogoDTO jogo : inteiros) {
+                    chaves.add(chaveJogo(jogo.getId()));
+                    argumentosInteiros.add(argumentosGravar(jogo, true));
+                }
+                SCRIPT_GRAVAR.executarEmLote(jedis, chaves, argumentosInteiros);
+            }
+            LOGGER.debug("Lote de {} escritas gravado no Redis", lote.size());
+        }
+    }
+
+    private static ScriptLua script(final EscritaPendente escrita) {
+        switch (escrita.getTipo()) {
+            case PLACAR:
+                return SCRIPT_PLACAR;
+            case GOL:
+                return SCRIPT_GOL;
+            default:
+                return SCRIPT_GRAVAR;
+        }
+    }
+
+    /** Argumentos do script da escrita (ver o comentário de cada script). */
+    private List<byte[]> argumentosEscrita(final EscritaPendente escrita) throws IOException {
+        JogoDTO jogo = escrita.getJogo();
+        switch (escrita.getTipo()) {
+            case PLACAR:
+                return List.of(ttlComVariacao(jogo), aviso(jogo.getId()), bytes(jogo.getVersao()),
+                        bytes(jogo.getPlacarA()), bytes(jogo.getPlacarB()),
+                        bytes(jogo.getDataAtualizacao()));
+            case GOL:
+                String campo = escrita.getLado() == LadoPlacar.TIME_A ? CAMPO_PLACAR_A : CAMPO_PLACAR_B;
+                return List.of(ttlComVariacao(jogo), aviso(jogo.getId()), bytes(jogo.getVersao()),
+                        bytes(campo), bytes(jogo.getDataAtualizacao()));
+            default:
+                return argumentosGravar(jogo, true);
+        }
+    }
+
+    /**
+     * Grava vários jogos inteiros num pipeline. Retorna false se deu erro.
+     */
+    private boolean gravarEmLote(final Collection<JogoDTO> jogos, final boolean avisar) {
+        if (jogos == null || jogos.isEmpty()) {
+            return false;
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            List<byte[]> chaves = new ArrayList<>(jogos.size());
+            List<List<byte[]>> argumentos = new ArrayList<>(jogos.size());
+            for (JogoDTO jogo : jogos) {
+                chaves.add(chaveJogo(jogo.getId()));
+                argumentos.add(argumentosGravar(jogo, avisar));
+            }
+            SCRIPT_GRAVAR.executarEmLote(jedis, chaves, argumentos);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Erro ao serializar jogos", e);
+        } catch (Exception e) {
+            logarErro(e, "Erro ao armazenar jogos no Redis");
+        }
+        return false;
+    }
+
+    /**
+     * Monta o jogo a partir dos campos do hash (na ordem de CAMPOS_JOGO).
+     * 
+     * O placar, a versão e a data vêm dos campos próprios, que os
+     * gols atualizam sem regravar "dados". Valor ilegível (formato de
+     * uma versão mais nova, por exemplo) conta como falta.
+     * 
+     * @return o jogo ou null se não estiver no cache
+     */
+    private JogoDTO montarJogoOuNulo(final Long jogoId, final List<byte[]> campos) {
+        if (campos.get(0) == null) {
+            return null;
+        }
+        try {
+            JogoDTO jogo = codecs.decodificar(campos.get(0));
+            String placarA = texto(campos.get(1));
+            String placarB = texto(campos.get(2));
+            String versao = texto(campos.get(3));
+            String atualizadoEm = texto(campos.get(4));
+            jogo.setPlacarA(placarA != null ? Integer.valueOf(placarA) : null);
+            jogo.setPlacarB(placarB != null ? Integer.valueOf(placarB) : null);
+            jogo.setVersao(versao != null ? Long.valueOf(versao) : null);
+            jogo.setDataAtualizacao(atualizadoEm != null ? LocalDateTime.parse(atualizadoEm) : null);
+            return jogo;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Erro ao deserializar jogo {} do Redis: {}", jogoId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loga uma falha do Redis como erro, a não ser que seja o disjuntor
+     * aberto recusando a chamada: aí vai em DEBUG, porque o disjuntor
+     * já logou uma vez quando abriu (e loga de novo quando fechar), e
+     * uma linha de erro por requisição durante a queda só enche o log.
+     */
+    private void logarErro(final Exception e, final String formato, final Object... argumentos) {
+        if (recusadaPeloDisjuntor(e)) {
+            LOGGER.debug(formato + " (disjuntor aberto)", argumentos);
+            return;
+        }
+        Object[] comExcecao = Arrays.copyOf(argumentos, argumentos.length + 1);
+        comExcecao[argumentos.length] = e;
+        LOGGER.error(formato, comExcecao);
+    }
+
+    /** Como {@link #logarErro}, pras falhas que são logadas como aviso. */
+    private void logarAviso(final Exception e, final String formato, final Object... argumentos) {
+        if (recusadaPeloDisjuntor(e)) {
+            LOGGER.debug(formato, argumentos);
+        } else {
+            LOGGER.warn(formato, argumentos);
+        }
+    }
+
+    private boolean recusadaPeloDisjuntor(final Exception e) {
+        return e instanceof PoolRedisComDisjuntor.DisjuntorAbertoException
+                || (disjuntor != null && disjuntor.isAberto());
+    }
+
+    /** Escrita no L1 sem voltar versão (duas escritas ou escrita e carga correndo juntas). */
+    private void guardarNoL1(final JogoDTO jogo) {
+        if (L1_HABILITADO && jogo.getId() != null) {
+            cacheLocal.guardarSeMaisNovo(jogo.getId(), jogo, RedisService::versaoDe);
+        }
+    }
+
+    private static long versaoDe(final JogoDTO jogo) {
+        return jogo.getVersao() == null ? 0 : jogo.getVersao();
+    }
+
+    /**
+     * Põe o aviso de invalidação no pipeline (vai junto com a escrita).
+     */
+    private void publicarInvalidacao(final Pipeline pipeline, final String alvo) {
+        if (L1_HABILITADO) {
+            pipeline.publish(CANAL_INVALIDACAO, idServidor + SEPARADOR_INVALIDACAO + alvo);
+        }
+    }
+
+    /**
+     * Sobe a thread que escuta o canal de invalidação.
+     * 
+     * O SUBSCRIBE do Jedis bloqueia a conexão, então fica numa
+     * thread só dele, que assina de novo se a conexão cair. A cada
+     * (re)assinatura o L1 é limpo, porque avisos podem ter se
+     * perdido enquanto estava desconectado.
+     */
+    private void iniciarEscutaInvalidacoes() {
+        ativo = true;
+        Runnable escuta = () -> {
+            while (ativo) {
+                try (Jedis jedis = jedisPool.getResource()) {
+                    assinante = new JedisPubSub() {
+                        @Override
+                        public void onSubscribe(String canal, int assinaturas) {
+                            cacheLocal.limpar();
+                            // Um "invalidar tudo" pode ter passado enquanto estava fora
+                            recarregarGeracao();
+                            escutaAtiva = true;
+                            avisarOuvintes(OuvinteInvalidacao::escutaIniciada);
+                            LOGGER.debug("Escutando invalidações em {}", canal);
+                        }
+
+                        @Override
+                        public void onMessage(String canal, String mensagem) {
+                            tratarInvalidacao(mensagem);
+                        }
+                    };
+                    jedis.subscribe(assinante, CANAL_INVALIDACAO);
+                } catch (Exception e) {
+                    escutaAtiva = false;
+                    avisarOuvintes(OuvinteInvalidacao::escutaInterrompida);
+                    if (!ativo) {
+                        break;
+                    }
+                    cacheLocal.limpar();
+                    logarAviso(e, "Escuta de invalidações caiu, tentando de novo: {}", e.getMessage());
+                    try {
+                        Thread.sleep(ESPERA_RECONEXAO_MS);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        };
+        Thread thread = fabricaThreads != null 
+                ? fabricaThreads.newThread(escuta) : new Thread(escuta);
+        thread.setName("redis-invalidacao-l1");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void tratarInvalidacao(final String mensagem) {
+        int posicao = mensagem.indexOf(SEPARADOR_INVALIDACAO);
+        if (posicao < 0 || mensagem.startsWith(idServidor + SEPARADOR_INVALIDACAO)) {
+            // Aviso do próprio servidor: o L1 daqui já está certo
+            return;
+        }
+        String alvo = mensagem.substring(posicao + 1);
+        if (INVALIDAR_TUDO.equals(alvo)) {
+            cacheLocal.limpar();
+            recarregarGeracao();
+            return;
+        }
+        Long jogoId;
+        try {
+            jogoId = Long.valueOf(alvo);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Mensagem de invalidação inválida: {}", mensagem);
+            return;
+        }
+        cacheLocal.remover(jogoId);
+        avisarOuvintes(ouvinte -> ouvinte.jogoAlterado(jogoId));
+    }
+
+    /**
+     * Um ouvinte com erro não pode derrubar a thread de escuta.
+     */
+    private void avisarOuvintes(final Consumer<OuvinteInvalidacao> aviso) {
+        for (OuvinteInvalidacao ouvinte : ouvintes) {
+            try {
+                aviso.accept(ouvinte);
+            } catch (Exception e) {
+                LOGGER.warn("Erro num ouvinte de invalidação: {}", e.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package br.com.futebol.infrastructure.cache;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Script Lua rodado no Redis pelo SHA1 (EVALSHA).
+ *
+ * Só o SHA1 vai pela rede. Se o Redis não conhecer o script (subiu
+ * de novo, SCRIPT FLUSH), a chamada é refeita com EVAL, que manda o
+ * código e deixa ele carregado pras próximas.
+ */
+final class ScriptLua {
+
+    private final byte[] fonte;
+    private final byte[] sha;
+
+    ScriptLua(String fonte) {
+        this.fonte = fonte.getBytes(StandardCharsets.UTF_8);
+        this.sha = sha1Hex(this.fonte);
+    }
+
+    Object executar(Jedis jedis, byte[] chave, List<byte[]> argumentos) {
+        try {
+            return jedis.evalsha(sha, List.of(chave), argumentos);
+        } catch (JedisNoScriptException e) {
+            return jedis.eval(fonte, List.of(chave), argumentos);
+        }
+    }
+
+    /**
+     * Roda o script pra várias chaves num pipeline só.
+     *
+     * O que voltar NOSCRIPT é refeito uma a uma com EVAL (só acontece
+     * na primeira chamada depois do Redis perder os scripts).
+     *
+     * @return resultado de cada chamada, na ordem das chaves
+     */
+    List<Object> executarEmLote(Jedis jedis, List<byte[]> chaves, List<List<byte[]>> argumentos) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<Object>> respostas = new ArrayList<>(chaves.size());
+        for (int i = 0; i < chaves.size(); i++) {
+            respostas.add(noPipeline(pipeline, chaves.get(i), argumentos.get(i)));
+        }
+        pipeline.sync();
+
+        List<Object> resultados = new ArrayList<>(chaves.size());
+        for (int i = 0; i < respostas.size(); i++) {
+            resultados.add(resultado(jedis, respostas.get(i), chaves.get(i), argumentos.get(i)));
+        }
+        return resultados;
+    }
+
+    /**
+     * Põe a chamada num pipeline que também tem outros comandos (ou outros scripts).
+     */
+    Response<Object> noPipeline(Pipeline pipeline, byte[] chave, List<byte[]> argumentos) {
+        return pipeline.evalsha(sha, List.of(chave), argumentos);
+    }
+
+    /**
+     * Resultado de uma chamada feita com {@link #noPipeline}, depois do sync.
+     * Se voltou NOSCRIPT, refaz com EVAL.
+     */
+    Object resultado(Jedis jedis, Response<Object> resposta, byte[] chave, List<byte[]> argumentos) {
+        try {
+            return resposta.get();
+        } catch (JedisNoScriptException e) {
+            return jedis.eval(fonte, List.of(chave), argumentos);
+        }
+    }
+
+    private static byte[] sha1Hex(byte[] dados) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(dados);
+            return HexFormat.of().formatHex(hash).getBytes(StandardCharsets.US_ASCII);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.futebol.infrastructure.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Canal em modo confirm com as confirmações tratadas de forma assíncrona.
+ *
+ * Cada publicação guarda a mensagem num mapa ordenado pelo número de
+ * sequência do canal e devolve um {@link CompletableFuture} que
+ * completa quando o broker confirmar. Ninguém fica parado em
+ * waitForConfirms: o ack chega pelo listener do canal (muitas vezes um
+ * ack só com multiple=true cobre várias mensagens, que saem do mapa
+ * de uma vez). Mensagem negada (nack) é publicada de novo, até
+ * {@code maxTentativas}; depois disso, ou se o canal fechar antes do
+ * ack, o future falha e quem publicou decide o que fazer.
+ *
+ * O número de mensagens em voo por canal é limitado: com o limite
+ * cheio a publicação espera uma vaga (é o controle de fluxo, pra um
+ * broker lento não fazer o mapa crescer sem fim).
+ */
+final class CanalConfirmado {
+
+    private final Channel canal;
+    private final Semaphore vagas;
+    private final long esperaVagaMs;
+    private final int maxTentativas;
+    private final EstatisticasConfirmacao estatisticas;
+
+    /** Mensagens publicadas esperando ack, pelo número de sequência. */
+    private final ConcurrentSkipListMap<Long, Envio> pendentes = new ConcurrentSkipListMap<>();
+
+    /** Pegar o número de sequência e publicar tem que ser uma coisa só. */
+    private final Object travaPublicacao = new Object();
+
+    CanalConfirmado(Channel canal, int maxEmVoo, long esperaVagaMs, int maxTentativas,
+            EstatisticasConfirmacao estatisticas) throws IOException {
+        this.canal = canal;
+        this.vagas = new Semaphore(Math.max(maxEmVoo, 1));
+        this.esperaVagaMs = esperaVagaMs;
+        this.maxTentativas = Math.max(maxTentativas, 1);
+        this.estatisticas = estatisticas;
+        canal.confirmSelect();
+        canal.addConfirmListener(this::confirmar, this::negar);
+        // Depois de fechar, a sequência recomeça: o que estava em voo não vai ser confirmado
+        canal.addShutdownListener(causa -> falharPendentes(
+                new IOException("Canal RabbitMQ fechou antes da confirmação", causa)));
+    }
+
+    /**
+     * Publica e devolve o future da confirmação.
+     *
+     * @throws IOException se não houve vaga a tempo ou a publicação falhou na hora
+     */
+    CompletableFuture<Void> publicar(String exchange, String routingKey,
+            AMQP.BasicProperties propriedades, byte[] corpo) throws IOException {
+        try {
+            if (!vagas.tryAcquire(esperaVagaMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Limite de mensagens sem confirmação do RabbitMQ atingido");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido esperando vaga pra publicar", e);
+        }
+        Envio envio = new Envio(exchange, routingKey, propriedades, corpo);
+        estatisticas.publicada();
+        try {
+            enviar(envio);
+        } catch (IOException | RuntimeException e) {
+            estatisticas.naoEnviada();
+            vagas.release();
+            throw e;
+        }
+        return envio.resultado;
+    }
+
+    boolean isOpen() {
+        return canal.isOpen();
+    }
+
+    /** Mensagens deste canal esperando ack. */
+    int getEmVoo() {
+        return pendentes.size();
+    }
+
+    void abort() throws IOException {
+        canal.abort();
+    }
+
+    void close() throws IOException, TimeoutException {
+        canal.close();
+    }
+
+    private void enviar(Envio envio) throws IOException {
+        synchronized (travaPublicacao) {
+            long sequencia = canal.getNextPublishSeqNo();
+            envio.enviadaEm = System.nanoTime();
+            // Entra no mapa antes de publicar: o ack pode chegar antes do basicPublish voltar
+            pendentes.put(sequencia, envio);
+            try {
+                canal.basicPublish(envio.exchange, envio.routingKey, envio.propriedades, envio.corpo);
+            } catch (IOException | RuntimeException e) {
+                pendentes.remove(sequencia);
+                throw e;
+            }
+        }
+    }
+
+    private void confirmar(long sequencia, boolean multiplas) {
+        if (!multiplas) {
+            Envio envio = pendentes.remove(sequencia);
+            if (envio != null) {
+                concluir(envio);
+            }
+            return;
+        }
+        Map.Entry<Long, Envio> primeira;
+        while ((primeira = pendentes.firstEntry()) != null && primeira.getKey() <= sequencia) {
+            if (pendentes.remove(primeira.getKey(), primeira.getValue())) {
+                concluir(primeira.getValue());
+            }
+        }
+    }
+
+    private void negar(long sequencia, boolean multiplas) {
+        if (!multiplas) {
+            Envio envio = pendentes.remove(sequencia);
+            if (envio != null) {
+                republicar(envio);
+            }
+            return;
+        }
+        Map.Entry<Long, Envio> primeira;
+        while ((primeira = pendentes.firstEntry()) != null && primeira.getKey() <= sequencia) {
+            if (pendentes.remove(primeira.getKey(), primeira.getValue())) {
+                republicar(primeira.getValue());
+            }
+        }
+    }
+
+    private void republicar(Envio envio) {
+        estatisticas.negada();
+        if (++envio.tentativas >= maxTentativas || !canal.isOpen()) {
+            falhar(envio, new IOException("RabbitMQ negou a mensagem " + envio.tentativas + " vezes"));
+            return;
+        }
+        try {
+            enviar(envio);
+            estatisticas.republicada();
+        } catch (IOException | RuntimeException e) {
+            falhar(envio, e);
+        }
+    }
+
+    private void falharPendentes(IOException causa) {
+        Map.Entry<Long, Envio> primeira;
+        while ((primeira = pendentes.pollFirstEntry()) != null) {
+            falhar(primeira.getValue(), causa);
+        }
+    }
+
+    private void concluir(Envio envio) {
+        estatisticas.confirmada(System.nanoTime() - envio.enviadaEm);
+        vagas.release();
+        envio.resultado.complete(null);
+    }
+
+    private void falhar(Envio envio, Exception causa) {
+        estatisticas.perdida();
+        vagas.release();
+        envio.resultado.completeExceptionally(causa);
+    }
+
+    /** Mensagem em voo (guarda o corpo pra poder republicar). */
+    private static final class Envio {
+        final String exchange;
+        final String routingKey;
+        final AMQP.BasicProperties propriedades;
+        final byte[] corpo;
+        final CompletableFuture<Void> resultado = new CompletableFuture<>();
+        volatile long enviadaEm;
+        /** Só mexido pelo listener de confirmação do canal. */
+        int tentativas;
+
+        Envio(String exchange, String routingKey, AMQP.BasicProperties propriedades, byte[] corpo) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.propriedades = propriedades;
+            this.corpo = corpo;
+        }
+    }
+}
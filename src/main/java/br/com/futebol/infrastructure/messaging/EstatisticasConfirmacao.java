@@ -0,0 +1,101 @@
+package br.com.futebol.infrastructure.messaging;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Números das confirmações do broker, somados de todos os canais.
+ *
+ * A latência (publicação até o ack) fica numa janela das últimas
+ * {@link #AMOSTRAS} confirmações; os percentis são calculados sobre
+ * uma cópia dela quando alguém pede as estatísticas, não a cada ack.
+ */
+final class EstatisticasConfirmacao {
+
+    /** Tamanho da janela de latências (potência de 2). */
+    private static final int AMOSTRAS = 1024;
+
+    private final AtomicInteger emVoo = new AtomicInteger();
+    private final LongAdder publicadas = new LongAdder();
+    private final LongAdder confirmadas = new LongAdder();
+    private final LongAdder negadas = new LongAdder();
+    private final LongAdder republicadas = new LongAdder();
+    private final LongAdder perdidas = new LongAdder();
+
+    private final AtomicLongArray latencias = new AtomicLongArray(AMOSTRAS);
+    private final AtomicLong proximaAmostra = new AtomicLong();
+
+    void publicada() {
+        publicadas.increment();
+        emVoo.incrementAndGet();
+    }
+
+    /** basicPublish falhou na hora (quem publicou recebeu a exceção). */
+    void naoEnviada() {
+        publicadas.decrement();
+        emVoo.decrementAndGet();
+    }
+
+    void confirmada(long latenciaNanos) {
+        confirmadas.increment();
+        emVoo.decrementAndGet();
+        latencias.set((int) (proximaAmostra.getAndIncrement() & (AMOSTRAS - 1)), latenciaNanos);
+    }
+
+    void negada() {
+        negadas.increment();
+    }
+
+    /** Negada e publicada de novo (continua em voo). */
+    void republicada() {
+        republicadas.increment();
+    }
+
+    /** Desistiu: negada vezes demais ou o canal fechou antes do ack. */
+    void perdida() {
+        perdidas.increment();
+        emVoo.decrementAndGet();
+    }
+
+    int getEmVoo() {
+        return emVoo.get();
+    }
+
+    /**
+     * Contadores e percentis de latência (em microssegundos).
+     */
+    Map<String, Object> resumo() {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("confirmacao.emVoo", emVoo.get());
+        resumo.put("confirmacao.publicadas", publicadas.sum());
+        resumo.put("confirmacao.confirmadas", confirmadas.sum());
+        resumo.put("confirmacao.negadas", negadas.sum());
+        resumo.put("confirmacao.republicadas", republicadas.sum());
+        resumo.put("confirmacao.perdidas", perdidas.sum());
+
+        int total = (int) Math.min(proximaAmostra.get(), AMOSTRAS);
+        long[] amostras = new long[total];
+        for (int i = 0; i < total; i++) {
+            amostras[i] = latencias.get(i);
+        }
+        Arrays.sort(amostras);
+        resumo.put("confirmacao.latencia_p50_us", percentil(amostras, 50));
+        resumo.put("confirmacao.latencia_p95_us", percentil(amostras, 95));
+        resumo.put("confirmacao.latencia_p99_us", percentil(amostras, 99));
+        return resumo;
+    }
+
+    private static long percentil(long[] ordenadas, int percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(ordenadas[Math.max(indice, 0)]);
+    }
+}
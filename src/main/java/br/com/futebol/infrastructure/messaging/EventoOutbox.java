@@ -0,0 +1,33 @@
+package br.com.futebol.infrastructure.messaging;
+
+/**
+ * Um evento gravado na tabela outbox_eventos, esperando publicação.
+ */
+public final class EventoOutbox {
+
+    private final Long id;
+    private final String routingKey;
+    private final String payload;
+
+    public EventoOutbox(Long id, String routingKey, String payload) {
+        this.id = id;
+        this.routingKey = routingKey;
+        this.payload = payload;
+    }
+
+    /**
+     * ID da linha no outbox; vai como messageId pros consumidores
+     * descartarem duplicatas (a entrega é "pelo menos uma vez").
+     */
+    public Long getId() {
+        return id;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
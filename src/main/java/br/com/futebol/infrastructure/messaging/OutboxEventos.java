@@ -0,0 +1,94 @@
+package br.com.futebol.infrastructure.messaging;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.infrastructure.repository.OutboxRepository;
+import br.com.futebol.infrastructure.util.SincronizacaoTransacao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registra os eventos de jogos no outbox, dentro da transação atual.
+ *
+ * É o que o serviço de jogos chama no lugar do RabbitMQ: o evento
+ * vira uma linha em outbox_eventos no mesmo commit do jogo, e o
+ * {@link RelayOutbox} publica depois. Se a transação for desfeita,
+ * o evento some junto. Depois do commit o relay é acordado, então
+ * normalmente o evento sai em milissegundos.
+ */
+@ApplicationScoped
+public class OutboxEventos {
+
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    private OutboxRepository outboxRepository;
+
+    @Inject
+    private RelayOutbox relayOutbox;
+
+    @Inject
+    private SincronizacaoTransacao sincronizacaoTransacao;
+
+    public OutboxEventos() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Registra o evento de jogo criado.
+     */
+    public void registrarJogoCriado(JogoDTO jogo) {
+        registrar(RabbitMQService.ROTA_JOGO_CRIADO, List.of(jogo));
+    }
+
+    /**
+     * Registra os eventos de criação de um lote (um evento por jogo, num único INSERT).
+     */
+    public void registrarJogosCriados(List<JogoDTO> jogos) {
+        registrar(RabbitMQService.ROTA_JOGO_CRIADO, jogos);
+    }
+
+    /**
+     * Registra o evento de placar atualizado.
+     *
+     * O relay só é acordado no fim da janela de placar, pra juntar
+     * uma rajada de eventos do mesmo jogo num só.
+     */
+    public void registrarPlacarAtualizado(JogoDTO jogo) {
+        registrar(RabbitMQService.ROTA_PLACAR_ATUALIZADO, List.of(jogo), relayOutbox::acordarDepoisDaJanela);
+    }
+
+    /**
+     * Registra o evento de jogo encerrado (acorda o relay na hora, levando
+     * junto os placares que estavam esperando a janela).
+     */
+    public void registrarJogoEncerrado(JogoDTO jogo) {
+        registrar(RabbitMQService.ROTA_JOGO_ENCERRADO, List.of(jogo));
+    }
+
+    private void registrar(String routingKey, List<JogoDTO> jogos) {
+        registrar(routingKey, jogos, relayOutbox::acordar);
+    }
+
+    private void registrar(String routingKey, List<JogoDTO> jogos, Runnable acordarRelay) {
+        if (jogos.isEmpty()) {
+            return;
+        }
+        List<String> payloads = new ArrayList<>(jogos.size());
+        try {
+            for (JogoDTO jogo : jogos) {
+                payloads.add(objectMapper.writeValueAsString(jogo));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar evento " + routingKey, e);
+        }
+        outboxRepository.inserir(routingKey, payloads);
+        sincronizacaoTransacao.executarAposCommit(acordarRelay);
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.futebol.infrastructure.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de canais AMQP (em modo confirm) sobre a mesma conexão.
+ *
+ * Canal não pode ser usado por duas threads ao mesmo tempo, então
+ * cada publicação pega um canal só dela e devolve no final. Os canais
+ * são criados sob demanda até o máximo; passando disso, quem pede
+ * espera um ser devolvido. Canal que fechou (erro no canal, conexão
+ * caiu) é descartado na devolução ou na retirada e um novo é criado
+ * no lugar. O descarte aborta o canal, senão a recuperação automática
+ * da conexão ressuscitaria um canal que ninguém mais conta.
+ */
+final class PoolCanais {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolCanais.class);
+
+    /** Quem cria um canal novo (na conexão atual). */
+    interface FabricaCanal {
+        CanalConfirmado criar() throws IOException;
+    }
+
+    private final int maximo;
+    private final long esperaMs;
+    private final FabricaCanal fabrica;
+
+    private final LinkedBlockingQueue<CanalConfirmado> livres = new LinkedBlockingQueue<>();
+    /** Canais existentes: livres mais emprestados. */
+    private final AtomicInteger criados = new AtomicInteger();
+
+    PoolCanais(int maximo, long esperaMs, FabricaCanal fabrica) {
+        this.maximo = Math.max(maximo, 1);
+        this.esperaMs = esperaMs;
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Pega um canal aberto, criando se ainda couber ou esperando um livre.
+     *
+     * @throws IOException se não der pra criar nem aparecer um livre a tempo
+     */
+    CanalConfirmado emprestar() throws IOException {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMs);
+        while (true) {
+            CanalConfirmado canal = livres.poll();
+            if (canal != null) {
+                if (canal.isOpen()) {
+                    return canal;
+                }
+                descartar(canal);
+                continue;
+            }
+            if (criados.incrementAndGet() <= maximo) {
+                return criar();
+            }
+            criados.decrementAndGet();
+
+            long resta = limite - System.nanoTime();
+            if (resta <= 0) {
+                throw new IOException("Nenhum canal RabbitMQ livre em " + esperaMs + "ms");
+            }
+            try {
+                canal = livres.poll(resta, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrompido esperando canal RabbitMQ", e);
+            }
+            if (canal != null) {
+                if (canal.isOpen()) {
+                    return canal;
+                }
+                descartar(canal);
+            }
+        }
+    }
+
+    /**
+     * Devolve o canal (fechado não volta pro pool).
+     */
+    void devolver(CanalConfirmado canal) {
+        if (canal.isOpen()) {
+            livres.offer(canal);
+        } else {
+            descartar(canal);
+        }
+    }
+
+    /** Canais existentes agora. */
+    int getCriados() {
+        return criados.get();
+    }
+
+    /** Canais parados no pool agora. */
+    int getLivres() {
+        return livres.size();
+    }
+
+    /**
+     * Fecha os canais livres (aplicação descendo).
+     */
+    void fechar() {
+        CanalConfirmado canal;
+        while ((canal = livres.poll()) != null) {
+            criados.decrementAndGet();
+            try {
+                if (canal.isOpen()) {
+                    canal.close();
+                }
+            } catch (IOException | TimeoutException e) {
+                logger.debug("Erro ao fechar canal RabbitMQ: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void descartar(CanalConfirmado canal) {
+        criados.decrementAndGet();
+        try {
+            canal.abort();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Erro ao descartar canal RabbitMQ: {}", e.getMessage());
+        }
+    }
+
+    private CanalConfirmado criar() throws IOException {
+        try {
+            return fabrica.criar();
+        } catch (IOException | RuntimeException e) {
+            criados.decrementAndGet();
+            throw e;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package br.com.futebol.infrastructure.messaging;
 
-import br.com.futebol.application.dto.JogoDTO;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import br.com.futebol.infrastructure.util.Disjuntor;
+import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
@@ -11,8 +11,17 @@ import org.slf4j.LoggerFactory;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -21,6 +30,26 @@ import java.util.concurrent.TimeoutException;
  * Uso o RabbitMQ pra enviar eventos quando algo importante
  * acontece: jogo criado, placar atualizado, jogo encerrado.
  * É tipo um "sistema de notificações" da aplicação.
+ *
+ * Os eventos não são publicados daqui direto: o serviço de jogos grava
+ * no outbox ({@link OutboxEventos}), na transação do jogo, e o
+ * {@link RelayOutbox} publica com {@link #publicarConfirmado}.
+ *
+ * Tem um disjuntor na frente: depois de algumas falhas seguidas (ou
+ * se o broker avisar que bloqueou as publicações por falta de memória
+ * ou disco) as publicações falham na hora, sem esperar timeout, até
+ * uma sonda em segundo plano ver que a conexão voltou.
+ *
+ * Canal do RabbitMQ não é seguro entre threads, então as publicações
+ * pegam um canal emprestado de um {@link PoolCanais} sobre a conexão
+ * (cada publicação usa o seu, em paralelo). Se o RabbitMQ não
+ * estava de pé quando a aplicação subiu, a conexão é tentada de novo
+ * nas publicações seguintes (com um intervalo entre as tentativas) em
+ * vez de o serviço ficar sem canal até reiniciar.
+ *
+ * Todos os canais estão em modo confirm ({@link CanalConfirmado}): o
+ * ack do broker chega em segundo plano e mensagem negada é publicada
+ * de novo; o relay espera os acks do lote sem segurar o canal.
  */
 @ApplicationScoped
 public class RabbitMQService {
@@ -32,22 +61,143 @@ public class RabbitMQService {
     private static final String QUEUE_JOGO_CRIADO = "jogo.criado";
     private static final String QUEUE_JOGO_ENCERRADO = "jogo.encerrado";
 
-    private Connection connection;
-    private Channel channel;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    /** Routing keys dos eventos (usadas também pelo outbox). */
+    public static final String ROTA_PLACAR_ATUALIZADO = "jogo.placar.atualizado";
+    public static final String ROTA_JOGO_CRIADO = "jogo.criado";
+    public static final String ROTA_JOGO_ENCERRADO = "jogo.encerrado";
+
+    /**
+     * Cabeçalho com o número de sequência do evento (o ID do outbox).
+     * No mesmo jogo, sequência maior é estado mais novo: o consumidor
+     * pode descartar o que chegar fora de ordem.
+     */
+    public static final String CABECALHO_SEQUENCIA = "sequencia";
+
+    /** Tempo máximo esperando o broker confirmar um lote, em milissegundos. */
+    private static final long TIMEOUT_CONFIRMACAO_MS = 5000;
+
+    /** Falhas seguidas que abrem o disjuntor do RabbitMQ. */
+    private static final int DISJUNTOR_FALHAS = ConfiguracaoAplicacao.obterInteiro(
+            "disjuntor.rabbitmq.falhas", 3);
+
+    /** Intervalo da sonda com o disjuntor aberto, em milissegundos. */
+    private static final int DISJUNTOR_SONDA_MS = ConfiguracaoAplicacao.obterInteiro(
+            "disjuntor.rabbitmq.sonda_ms", 2000);
+
+    /** Máximo de canais abertos pras publicações (uma publicação por canal por vez). */
+    private static final int CANAIS_MAXIMO = ConfiguracaoAplicacao.obterInteiro(
+            "rabbitmq.canais.maximo", 8);
+
+    /** Quanto uma publicação espera um canal livre com todos em uso, em milissegundos. */
+    private static final int CANAIS_ESPERA_MS = ConfiguracaoAplicacao.obterInteiro(
+            "rabbitmq.canais.espera_ms", 1000);
+
+    /** Timeout pra abrir a conexão, em milissegundos. */
+    private static final int TIMEOUT_CONEXAO_MS = 2000;
+
+    /** Intervalo mínimo entre tentativas de conectar quando a conexão não existe. */
+    private static final long INTERVALO_RECONEXAO_MS = 5000;
+
+    /** Mensagens sem confirmação por canal; com o limite cheio a publicação espera. */
+    private static final int MAX_EM_VOO = ConfiguracaoAplicacao.obterInteiro(
+            "rabbitmq.confirmacao.max_em_voo", 1000);
+
+    /** Quantas vezes uma mensagem é publicada antes de desistir dos nacks. */
+    private static final int TENTATIVAS = ConfiguracaoAplicacao.obterInteiro(
+            "rabbitmq.confirmacao.tentativas", 3);
+
+    /** Eventos de jogo: JSON, persistentes (sobrevivem a um restart do broker). */
+    private static final AMQP.BasicProperties PROPRIEDADES_EVENTO = new AMQP.BasicProperties.Builder()
+            .contentType("application/json")
+            .deliveryMode(2)
+            .build();
+
+    /** Fábrica de threads do servidor, pra sonda do disjuntor. */
+    @Resource
+    private ManagedThreadFactory fabricaThreads;
+
+    private Disjuntor disjuntor;
+    /** Broker bloqueou as publicações desta conexão (alarme de memória ou disco). */
+    private volatile boolean bloqueada;
+
+    private ConnectionFactory factory;
+    private volatile Connection connection;
+    /** Quando pode tentar conectar de novo (depois de uma tentativa que falhou). */
+    private long proximaTentativa;
+    private PoolCanais canais;
+    private final EstatisticasConfirmacao confirmacoes = new EstatisticasConfirmacao();
 
     @PostConstruct
     public void inicializar() {
+        // A sonda só fecha com a conexão aberta e sem bloqueio (a recuperação automática reabre)
+        disjuntor = new Disjuntor("RabbitMQ", DISJUNTOR_FALHAS, DISJUNTOR_SONDA_MS,
+                this::conexaoPronta, fabricaThreads);
+
+        factory = new ConnectionFactory();
+        factory.setHost(System.getProperty("rabbitmq.host", "localhost"));
+        factory.setPort(Integer.parseInt(System.getProperty("rabbitmq.port", "5672")));
+        factory.setUsername(System.getProperty("rabbitmq.username", "guest"));
+        factory.setPassword(System.getProperty("rabbitmq.password", "guest"));
+        factory.setConnectionTimeout(TIMEOUT_CONEXAO_MS);
+        factory.setAutomaticRecoveryEnabled(true);
+
+        canais = new PoolCanais(CANAIS_MAXIMO, CANAIS_ESPERA_MS, this::novoCanal);
+
         try {
-            ConnectionFactory factory = new ConnectionFactory();
-            factory.setHost(System.getProperty("rabbitmq.host", "localhost"));
-            factory.setPort(Integer.parseInt(System.getProperty("rabbitmq.port", "5672")));
-            factory.setUsername(System.getProperty("rabbitmq.username", "guest"));
-            factory.setPassword(System.getProperty("rabbitmq.password", "guest"));
+            conexao();
+            logger.info("RabbitMQ inicializado com sucesso");
+        } catch (IOException e) {
+            logger.error("Erro ao inicializar RabbitMQ, tentando de novo nas próximas publicações", e);
+        }
+    }
 
-            connection = factory.newConnection();
-            channel = connection.createChannel();
+    /**
+     * Conexão aberta, conectando se ainda não houver uma.
+     *
+     * Depois que a conexão existe, quem reconecta quando a rede cai é a
+     * recuperação automática do cliente; enquanto ela trabalha, lança
+     * IOException. Sem conexão (a primeira tentativa falhou), tenta de
+     * novo no máximo a cada {@link #INTERVALO_RECONEXAO_MS}.
+     */
+    private synchronized Connection conexao() throws IOException {
+        Connection atual = connection;
+        if (atual != null) {
+            if (!atual.isOpen()) {
+                throw new IOException("Conexão com o RabbitMQ está se recuperando");
+            }
+            return atual;
+        }
+        long agora = System.currentTimeMillis();
+        if (agora < proximaTentativa) {
+            throw new IOException("Conexão com o RabbitMQ não está disponível");
+        }
+        proximaTentativa = agora + INTERVALO_RECONEXAO_MS;
+
+        Connection nova;
+        try {
+            nova = factory.newConnection();
+        } catch (TimeoutException e) {
+            throw new IOException("Timeout conectando no RabbitMQ", e);
+        }
+        try {
+            nova.addBlockedListener(motivo -> {
+                bloqueada = true;
+                disjuntor.abrir("broker bloqueou publicações: " + motivo);
+            }, () -> bloqueada = false);
+            declararTopologia(nova);
+        } catch (IOException e) {
+            nova.abort();
+            throw e;
+        }
+        connection = nova;
+        return nova;
+    }
 
+    /**
+     * Exchange, filas e bindings (idempotente; roda a cada conexão nova).
+     */
+    private void declararTopologia(Connection conexao) throws IOException {
+        try (Channel channel = conexao.createChannel()) {
             // Criar o exchange (tipo um "roteador" de mensagens)
             channel.exchangeDeclare(EXCHANGE_NAME, "topic", true);
 
@@ -57,76 +207,133 @@ public class RabbitMQService {
             channel.queueDeclare(QUEUE_JOGO_ENCERRADO, true, false, false, null);
 
             // Conectar as filas com o exchange (roteamento)
-            channel.queueBind(QUEUE_PLACAR_ATUALIZADO, EXCHANGE_NAME, "jogo.placar.atualizado");
-            channel.queueBind(QUEUE_JOGO_CRIADO, EXCHANGE_NAME, "jogo.criado");
-            channel.queueBind(QUEUE_JOGO_ENCERRADO, EXCHANGE_NAME, "jogo.encerrado");
-
-            logger.info("RabbitMQ inicializado com sucesso");
-
-        } catch (Exception e) {
-            logger.error("Erro ao inicializar RabbitMQ", e);
+            channel.queueBind(QUEUE_PLACAR_ATUALIZADO, EXCHANGE_NAME, ROTA_PLACAR_ATUALIZADO);
+            channel.queueBind(QUEUE_JOGO_CRIADO, EXCHANGE_NAME, ROTA_JOGO_CRIADO);
+            channel.queueBind(QUEUE_JOGO_ENCERRADO, EXCHANGE_NAME, ROTA_JOGO_ENCERRADO);
+        } catch (TimeoutException e) {
+            throw new IOException("Timeout fechando o canal de declaração", e);
         }
     }
 
-    /**
-     * Publica evento quando alguém atualiza o placar.
-     */
-    public void publicarPlacarAtualizado(JogoDTO jogo) {
-        publicarEvento("jogo.placar.atualizado", jogo);
+    private CanalConfirmado novoCanal() throws IOException {
+        Channel canal = conexao().createChannel();
+        if (canal == null) {
+            throw new IOException("Conexão RabbitMQ não aceita mais canais");
+        }
+        return new CanalConfirmado(canal, MAX_EM_VOO, CANAIS_ESPERA_MS, TENTATIVAS, confirmacoes);
     }
 
-    /**
-     * Publica evento quando um novo jogo é criado.
-     */
-    public void publicarJogoCriado(JogoDTO jogo) {
-        publicarEvento("jogo.criado", jogo);
+    /** Sonda do disjuntor: conecta se preciso e vê se o broker não está bloqueando. */
+    private boolean conexaoPronta() {
+        try {
+            conexao();
+            return !bloqueada;
+        } catch (IOException e) {
+            return false;
+        }
     }
 
     /**
-     * Publica evento quando um jogo é encerrado.
+     * Publica eventos do outbox e espera o broker confirmar todos.
+     *
+     * As mensagens vão persistentes e com o ID do outbox como
+     * messageId, todas de uma vez; depois espera os futures do lote
+     * (nack é republicado pelo canal, sem o lote inteiro falhar). Se o
+     * broker negar de vez ou não responder a tempo, lança IOException
+     * e quem chamou deve manter os eventos pra tentar de novo (o que
+     * pode gerar duplicata, então os consumidores devem ignorar
+     * messageId repetido).
+     *
+     * Com o disjuntor aberto, lança IOException na hora.
      */
-    public void publicarJogoEncerrado(JogoDTO jogo) {
-        publicarEvento("jogo.encerrado", jogo);
+    public void publicarConfirmado(List<EventoOutbox> eventos) throws IOException {
+        if (!disjuntor.permite()) {
+            throw new IOException("Disjuntor do RabbitMQ aberto");
+        }
+        try {
+            publicarEsperandoConfirmacao(eventos);
+            disjuntor.registrarSucesso();
+        } catch (IOException e) {
+            disjuntor.registrarFalha();
+            throw e;
+        }
     }
 
-    /**
-     * Publica um evento genérico
-     */
-    private void publicarEvento(String routingKey, Object payload) {
+    private void publicarEsperandoConfirmacao(List<EventoOutbox> eventos) throws IOException {
+        CompletableFuture<?>[] confirmacoesLote = new CompletableFuture<?>[eventos.size()];
+        CanalConfirmado canal = canais.emprestar();
         try {
-            if (channel != null && channel.isOpen()) {
-                String mensagem = objectMapper.writeValueAsString(payload);
-                channel.basicPublish(EXCHANGE_NAME, routingKey, null, mensagem.getBytes());
-                logger.info("Evento publicado: {} - {}", routingKey, mensagem);
-            } else {
-                logger.warn("Canal RabbitMQ não está disponível");
+            for (int i = 0; i < eventos.size(); i++) {
+                EventoOutbox evento = eventos.get(i);
+                AMQP.BasicProperties propriedades = PROPRIEDADES_EVENTO.builder()
+                    .messageId(String.valueOf(evento.getId()))
+                    .headers(Map.of(CABECALHO_SEQUENCIA, evento.getId()))
+                    .build();
+                confirmacoesLote[i] = canal.publicar(EXCHANGE_NAME, evento.getRoutingKey(), propriedades,
+                    evento.getPayload().getBytes(StandardCharsets.UTF_8));
             }
-        } catch (JsonProcessingException e) {
-            logger.error("Erro ao serializar payload para JSON", e);
-        } catch (IOException e) {
-            logger.error("Erro ao publicar evento no RabbitMQ", e);
+        } finally {
+            // O canal volta pro pool já: as confirmações chegam sem ele estar emprestado
+            canais.devolver(canal);
+        }
+        try {
+            CompletableFuture.allOf(confirmacoesLote).get(TIMEOUT_CONFIRMACAO_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido esperando confirmação do RabbitMQ", e);
+        } catch (ExecutionException e) {
+            throw new IOException("RabbitMQ não confirmou o lote: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("RabbitMQ não confirmou o lote em " + TIMEOUT_CONFIRMACAO_MS + "ms", e);
         }
     }
 
     @PreDestroy
     public void destruir() {
+        if (disjuntor != null) {
+            disjuntor.desligar();
+        }
         try {
-            if (channel != null && channel.isOpen()) {
-                channel.close();
+            if (canais != null) {
+                canais.fechar();
             }
             if (connection != null && connection.isOpen()) {
                 connection.close();
             }
             logger.info("Conexões RabbitMQ fechadas");
-        } catch (IOException | TimeoutException e) {
+        } catch (IOException e) {
             logger.error("Erro ao fechar conexões RabbitMQ", e);
         }
     }
 
     /**
-     * Verifica se o serviço está disponível
+     * Verifica se o serviço está disponível (disjuntor fechado e conexão aberta
+     * ou ainda por tentar; quem conecta é a publicação)
      */
     public boolean isDisponivel() {
-        return channel != null && channel.isOpen();
+        if (disjuntor == null || !disjuntor.permite()) {
+            return false;
+        }
+        Connection atual = connection;
+        return atual == null || atual.isOpen();
+    }
+
+    /**
+     * Canais do pool, mensagens em voo, nacks e latência das confirmações.
+     */
+    public Map<String, Object> obterEstatisticas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("disjuntor.aberto", isDisjuntorAberto());
+        resultado.put("canais.abertos", canais == null ? 0 : canais.getCriados());
+        resultado.put("canais.livres", canais == null ? 0 : canais.getLivres());
+        resultado.putAll(confirmacoes.resumo());
+        return resultado;
+    }
+
+    /**
+     * Situação do disjuntor, pras estatísticas.
+     */
+    public boolean isDisjuntorAberto() {
+        return disjuntor != null && disjuntor.isAberto();
     }
 }
@@ -0,0 +1,230 @@
+package br.com.futebol.infrastructure.messaging;
+
+import br.com.futebol.infrastructure.repository.OutboxRepository;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica no RabbitMQ os eventos que estão no outbox.
+ *
+ * Roda em segundo plano, fora das requisições: pega um lote de
+ * eventos pendentes, publica com confirmação do broker e só então
+ * apaga do outbox. É acordado depois de cada commit que grava
+ * eventos e, por garantia, também roda a cada outbox.intervalo_ms
+ * (pega o que sobrou de falhas ou de outros servidores).
+ *
+ * Evento de placar não acorda o relay na hora: ele espera a janela
+ * de outbox.placar.janela_ms, e numa rajada (sequência de gols,
+ * correção de placar) vários eventos do mesmo jogo caem no mesmo
+ * lote. Do lote só sai o placar mais novo de cada jogo; os outros são
+ * apagados sem publicar. Jogo encerrado acorda na hora e leva junto o
+ * que estiver esperando, então o resultado final nunca atrasa. Cada
+ * mensagem leva o ID do outbox no cabeçalho de sequência: no mesmo
+ * jogo, maior é mais novo (e buraco é evento que foi juntado).
+ */
+@ApplicationScoped
+public class RelayOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelayOutbox.class);
+
+    /** Eventos publicados por transação/confirmação. */
+    private static final int TAMANHO_LOTE = ConfiguracaoAplicacao.obterInteiro(
+            "outbox.lote", 100);
+
+    /** Intervalo da varredura de garantia, em milissegundos. */
+    private static final int INTERVALO_MS = ConfiguracaoAplicacao.obterInteiro(
+            "outbox.intervalo_ms", 1000);
+
+    /** Janela pra juntar eventos de placar do mesmo jogo, em milissegundos (0 = desliga). */
+    private static final int JANELA_PLACAR_MS = ConfiguracaoAplicacao.obterInteiro(
+            "outbox.placar.janela_ms", 50);
+
+    @Inject
+    private OutboxRepository outboxRepository;
+
+    @Inject
+    private RabbitMQService rabbitMQService;
+
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Só um dreno por vez neste servidor, pra manter a ordem dos eventos. */
+    private final AtomicBoolean drenando = new AtomicBoolean();
+
+    /** Chegou evento novo enquanto drenava: roda mais uma volta antes de sair. */
+    private final AtomicBoolean acordado = new AtomicBoolean();
+
+    /** Já tem um dreno agendado pro fim da janela de placar. */
+    private final AtomicBoolean esperandoJanela = new AtomicBoolean();
+
+    /** Eventos de placar apagados sem publicar (tinha um mais novo do jogo no lote). */
+    private final LongAdder placaresJuntados = new LongAdder();
+
+    /** Se a última tentativa falhou (pra logar só na mudança). */
+    private volatile boolean emFalha;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ScheduledFuture<?> tarefa;
+
+    /**
+     * Agenda a varredura periódica quando a aplicação sobe.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (agendador == null) {
+            logger.warn("Executor agendado indisponível, eventos do outbox não serão publicados");
+            return;
+        }
+        tarefa = agendador.scheduleWithFixedDelay(this::drenar,
+                INTERVALO_MS, INTERVALO_MS, TimeUnit.MILLISECONDS);
+        logger.info("Relay do outbox agendado a cada {}ms (lotes de {})", INTERVALO_MS, TAMANHO_LOTE);
+    }
+
+    /**
+     * Pede pro relay publicar agora (chamado depois do commit).
+     */
+    public void acordar() {
+        acordado.set(true);
+        if (agendador != null) {
+            agendador.execute(this::drenar);
+        }
+    }
+
+    /**
+     * Pede pro relay publicar no fim da janela de placar (chamado
+     * depois do commit de um evento de placar). Eventos que chegarem
+     * durante a janela saem no mesmo dreno.
+     */
+    public void acordarDepoisDaJanela() {
+        if (JANELA_PLACAR_MS <= 0) {
+            acordar();
+            return;
+        }
+        if (agendador != null && esperandoJanela.compareAndSet(false, true)) {
+            agendador.schedule(() -> {
+                esperandoJanela.set(false);
+                acordado.set(true);
+                drenar();
+            }, JANELA_PLACAR_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Números do relay, pras estatísticas da mensageria.
+     */
+    public Map<String, Object> obterEstatisticas() {
+        return Map.of("outbox.placaresJuntados", placaresJuntados.sum());
+    }
+
+    @PreDestroy
+    public void destruir() {
+        if (tarefa != null) {
+            tarefa.cancel(false);
+        }
+    }
+
+    /**
+     * Publica lotes até o outbox esvaziar. Erros ficam no log; os
+     * eventos continuam no outbox e saem na próxima rodada.
+     */
+    private void drenar() {
+        if (!drenando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (rabbitMQService.isDisjuntorAberto()) {
+                // Nem abre transação: os eventos esperam a sonda ver o broker de volta
+                return;
+            }
+            do {
+                acordado.set(false);
+                int publicados;
+                do {
+                    publicados = outboxRepository.processarPendentes(TAMANHO_LOTE, this::publicar);
+                } while (publicados == TAMANHO_LOTE);
+            } while (acordado.get());
+            if (emFalha) {
+                emFalha = false;
+                logger.info("Relay do outbox voltou a publicar");
+            }
+        } catch (Exception e) {
+            if (!emFalha) {
+                emFalha = true;
+                logger.warn("Erro ao publicar eventos do outbox, tentando de novo depois: {}",
+                        e.getMessage());
+            }
+        } finally {
+            drenando.set(false);
+        }
+    }
+
+    private void publicar(List<EventoOutbox> eventos) {
+        try {
+            List<EventoOutbox> aPublicar = JANELA_PLACAR_MS > 0 ? juntarPlacares(eventos) : eventos;
+            rabbitMQService.publicarConfirmado(aPublicar);
+            logger.debug("{} eventos do outbox publicados ({} placares juntados)",
+                    aPublicar.size(), eventos.size() - aPublicar.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Tira do lote os eventos de placar que têm um mais novo do mesmo
+     * jogo no mesmo lote (a ordem do resto não muda). O lote vem em
+     * ordem de ID, então basta andar de trás pra frente.
+     */
+    List<EventoOutbox> juntarPlacares(List<EventoOutbox> eventos) {
+        Set<Long> comPlacarMaisNovo = new HashSet<>();
+        List<EventoOutbox> resultado = new ArrayList<>(eventos.size());
+        for (int i = eventos.size() - 1; i >= 0; i--) {
+            EventoOutbox evento = eventos.get(i);
+            if (RabbitMQService.ROTA_PLACAR_ATUALIZADO.equals(evento.getRoutingKey())) {
+                Long jogoId = jogoDoEvento(evento);
+                if (jogoId != null && !comPlacarMaisNovo.add(jogoId)) {
+                    placaresJuntados.increment();
+                    continue;
+                }
+            }
+            resultado.add(evento);
+        }
+        Collections.reverse(resultado);
+        return resultado;
+    }
+
+    /** ID do jogo no payload (um JogoDTO); null se não der pra ler (o evento sai como está). */
+    private Long jogoDoEvento(EventoOutbox evento) {
+        try {
+            JsonNode id = objectMapper.readTree(evento.getPayload()).get("id");
+            return id != null && id.canConvertToLong() ? id.asLong() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -1,15 +1,46 @@
 package br.com.futebol.infrastructure.repository;
 
+import br.com.futebol.application.dto.EstatisticasDTO;
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.application.dto.ResultadoBuscaDTO;
 import br.com.futebol.domain.entity.Jogo;
+import br.com.futebol.domain.enums.LadoPlacar;
 import br.com.futebol.domain.enums.StatusJogo;
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Classe que cuida de tudo relacionado ao banco de dados dos jogos.
@@ -21,9 +52,51 @@ import java.util.Optional;
 @Transactional
 public class JogoRepository {
 
-    @PersistenceContext
+    /** Região do cache de consultas de jogos encerrados (vida longa). */
+    private static final String REGIAO_CONSULTAS_ENCERRADOS = "jogos-encerrados";
+
+    /** Região do cache de consultas que podem ter jogos em andamento (vida curta). */
+    private static final String REGIAO_CONSULTAS_EM_ANDAMENTO = "jogos-em-andamento";
+
+    /**
+     * Região das listas de IDs por status. Placar não muda a lista,
+     * então ela não é limpa a cada gol, só quando o Hibernate vê
+     * escrita na tabela (criar, encerrar, remover, arquivar).
+     */
+    private static final String REGIAO_CONSULTAS_IDS = "jogos-ids";
+
+    /** Máximo de IDs por cláusula IN. */
+    private static final int IDS_POR_CONSULTA = 1000;
+
+    /** Início das consultas que projetam direto em JogoDTO. */
+    private static final String PROJECAO_DTO = "SELECT new br.com.futebol.application.dto.JogoDTO("
+        + "j.id, j.timeA, j.timeB, j.placarA, j.placarB, j.status, "
+        + "j.dataHoraPartida, j.dataCriacao, j.dataAtualizacao, j.versao) FROM Jogo j";
+
+    /** Colunas devolvidas pelos UPDATEs de placar (a linha inteira, pra virar Jogo). */
+    private static final String RETORNO_JOGO = " RETURNING id, time_a, time_b, placar_a, placar_b, status,"
+        + " data_hora_partida, data_criacao, data_atualizacao, versao, arquivado";
+
+    /** Quantidade de linhas buscadas por ida ao banco durante a exportação. */
+    private static final int TAMANHO_LOTE_EXPORTACAO = 500;
+
+    /** Todos os jogos, do mais recente pro mais antigo (exportação). */
+    private static final String CONSULTA_EXPORTACAO =
+        "SELECT j FROM Jogo j ORDER BY j.dataHoraPartida DESC, j.id DESC";
+
+    /** Tamanho do lote de inserts (igual ao hibernate.jdbc.batch_size). */
+    private static final int TAMANHO_LOTE_INSERCAO = ConfiguracaoAplicacao.obterInteiro(
+            "performance.batch_size", 20);
+
+    @PersistenceContext(unitName = "futebolPU")
     private EntityManager entityManager;
 
+    @Resource
+    private TransactionSynchronizationRegistry transacoes;
+
+    @Inject
+    private RoteadorLeitura roteadorLeitura;
+
     /**
      * Salva um novo jogo ou atualiza um existente.
      * 
@@ -43,23 +116,138 @@ public class JogoRepository {
         }
     }
 
+    /**
+     * Insere vários jogos novos de uma vez.
+     *
+     * Os inserts são agrupados em lotes JDBC (hibernate.jdbc.batch_size).
+     * A cada lote faz flush e limpa o contexto de persistência, pra
+     * não acumular entidades gerenciadas quando a lista é grande.
+     */
+    public List<Jogo> salvarTodos(List<Jogo> jogos) {
+        try {
+            for (int i = 0; i < jogos.size(); i++) {
+                entityManager.persist(jogos.get(i));
+                if ((i + 1) % TAMANHO_LOTE_INSERCAO == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            return jogos;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao salvar lote de jogos: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Atualiza um jogo existente
+     *
+     * Faz flush na hora: é o UPDATE que sobe a versão (@Version), e
+     * quem chamou monta o DTO (evento, cache, resposta) com o jogo
+     * devolvido. Sem o flush ele ainda estaria com a versão antiga,
+     * e no Redis um jogo de mesma versão lido antes da alteração
+     * poderia passar por cima dele.
      */
     public Jogo atualizar(Jogo jogo) {
         try {
-            return entityManager.merge(jogo);
+            Jogo atualizado = entityManager.merge(jogo);
+            entityManager.flush();
+            return atualizado;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao atualizar jogo: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Atualiza o placar com um único UPDATE condicional.
+     *
+     * Não lê o jogo antes: o próprio UPDATE só mexe na linha se o
+     * jogo não estiver encerrado (e, se a versão esperada for
+     * informada, se ninguém alterou o jogo nesse meio tempo), e o
+     * RETURNING já devolve a linha atualizada. Retorna vazio quando
+     * nenhuma linha foi alterada; aí quem chamou decide o motivo.
+     *
+     * @param versaoEsperada versão que o cliente viu ou null pra ignorar
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Jogo> atualizarPlacar(Long id, Integer placarA, Integer placarB, Long versaoEsperada) {
+        try {
+            StringBuilder sql = new StringBuilder(
+                "UPDATE jogos SET placar_a = ?1, placar_b = ?2, data_atualizacao = now(), versao = versao + 1"
+                + " WHERE id = ?3 AND status <> 'ENCERRADO' AND arquivado = FALSE");
+            if (versaoEsperada != null) {
+                sql.append(" AND versao = ?4");
+            }
+            sql.append(RETORNO_JOGO);
+
+            Query query = entityManager.createNativeQuery(sql.toString(), Jogo.class);
+            query.setParameter(1, placarA);
+            query.setParameter(2, placarB);
+            query.setParameter(3, id);
+            if (versaoEsperada != null) {
+                query.setParameter(4, versaoEsperada);
+            }
+            // Não deixa a linha ainda não commitada ir pro cache de segundo nível
+            query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+            List<Jogo> resultado = query.getResultList();
+            if (!resultado.isEmpty()) {
+                invalidarCacheJogoEmAndamento(id);
+            }
+            return resultado.stream().findFirst();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao atualizar placar: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Soma um gol pro lado informado, com o incremento feito pelo banco.
+     *
+     * Como o UPDATE faz placar = placar + 1, dois gols informados ao
+     * mesmo tempo viram dois gols (não tem ler-alterar-gravar no meio).
+     * Retorna vazio quando o jogo não existe ou está encerrado.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Jogo> registrarGol(Long id, LadoPlacar lado) {
+        try {
+            String coluna = lado == LadoPlacar.TIME_A ? "placar_a" : "placar_b";
+            Query query = entityManager.createNativeQuery(
+                "UPDATE jogos SET " + coluna + " = " + coluna + " + 1,"
+                + " data_atualizacao = now(), versao = versao + 1"
+                + " WHERE id = ?1 AND status <> 'ENCERRADO' AND arquivado = FALSE"
+                + RETORNO_JOGO, Jogo.class);
+            query.setParameter(1, id);
+            query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+            List<Jogo> resultado = query.getResultList();
+            if (!resultado.isEmpty()) {
+                invalidarCacheJogoEmAndamento(id);
+            }
+            return resultado.stream().findFirst();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao registrar gol: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Busca um jogo por ID
      */
     public Optional<Jogo> buscarPorId(Long id) {
+        return buscarPorId(id, OrigemLeitura.PRINCIPAL);
+    }
+
+    /**
+     * Busca um jogo por ID, podendo ler da réplica.
+     *
+     * Se a réplica não achar o jogo, tenta no principal: pode ser
+     * um jogo que acabou de ser criado e ainda não chegou nela. O
+     * jogo lido da réplica vem desanexado (só pra leitura).
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Optional<Jogo> buscarPorId(Long id, OrigemLeitura origem) {
         try {
-            Jogo jogo = entityManager.find(Jogo.class, id);
+            Jogo jogo = ler(origem, em -> em.find(Jogo.class, id));
+            if (jogo == null && origem == OrigemLeitura.REPLICA) {
+                jogo = entityManager.find(Jogo.class, id);
+            }
             return Optional.ofNullable(jogo);
         } catch (Exception e) {
             throw new RuntimeException("Erro ao buscar jogo por ID: " + e.getMessage(), e);
@@ -85,7 +273,8 @@ public class JogoRepository {
     public List<Jogo> listarPorStatus(StatusJogo status) {
         try {
             TypedQuery<Jogo> query = entityManager.createQuery(
-                "SELECT j FROM Jogo j WHERE j.status = :status ORDER BY j.dataHoraPartida DESC", Jogo.class);
+                "SELECT j FROM Jogo j WHERE j.status = :status" + filtroParticao(status)
+                + " ORDER BY j.dataHoraPartida DESC", Jogo.class);
             query.setParameter("status", status);
             return query.getResultList();
         } catch (Exception e) {
@@ -108,6 +297,338 @@ public class JogoRepository {
         }
     }
 
+    /**
+     * Lista uma página de jogos usando paginação por chave (keyset).
+     *
+     * A ordenação é (data_hora_partida DESC, id DESC) e a próxima
+     * página começa logo depois do último jogo da anterior, então
+     * o banco não precisa pular linhas como no OFFSET. Status e
+     * período são filtros opcionais (null = sem filtro). O resultado
+     * já vem projetado em DTO, sem entidades gerenciadas.
+     *
+     * @param status filtro de status ou null
+     * @param inicio início do período ou null
+     * @param fim fim do período ou null
+     * @param cursorData data/hora da partida do último jogo já devolvido ou null
+     * @param cursorId ID do último jogo já devolvido ou null
+     * @param limite quantidade máxima de jogos a devolver
+     * @param origem banco principal ou réplica
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<JogoDTO> listarPagina(StatusJogo status, LocalDateTime inicio, LocalDateTime fim,
+            LocalDateTime cursorData, Long cursorId, int limite, OrigemLeitura origem) {
+        try {
+            StringBuilder jpql = new StringBuilder(PROJECAO_DTO + " WHERE 1 = 1");
+            if (status != null) {
+                jpql.append(" AND j.status = :status").append(filtroParticao(status));
+            }
+            if (inicio != null && fim != null) {
+                jpql.append(" AND j.dataHoraPartida BETWEEN :inicio AND :fim");
+            }
+            if (cursorData != null && cursorId != null) {
+                jpql.append(" AND (j.dataHoraPartida < :cursorData")
+                    .append(" OR (j.dataHoraPartida = :cursorData AND j.id < :cursorId))");
+            }
+            jpql.append(" ORDER BY j.dataHoraPartida DESC, j.id DESC");
+
+            String consulta = jpql.toString();
+            return ler(origem, em -> {
+                TypedQuery<JogoDTO> query = somenteLeitura(em.createQuery(consulta, JogoDTO.class));
+                if (status != null) {
+                    query.setParameter("status", status);
+                }
+                if (inicio != null && fim != null) {
+                    query.setParameter("inicio", inicio);
+                    query.setParameter("fim", fim);
+                }
+                if (cursorData != null && cursorId != null) {
+                    query.setParameter("cursorData", cursorData);
+                    query.setParameter("cursorId", cursorId);
+                }
+                query.setMaxResults(limite);
+                return query.getResultList();
+            });
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao listar página de jogos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca jogos pelo nome de um dos times, do mais relevante pro menos.
+     *
+     * O filtro é ILIKE '%termo%' em time_a ou time_b, que o PostgreSQL
+     * resolve com os índices GIN de trigramas (um BitmapOr dos dois).
+     * A relevância é a maior word_similarity entre o termo e os dois
+     * nomes, então "flam" fica bem perto de "Flamengo". A paginação é
+     * por chave em (relevância, data_hora_partida, id), todos DESC.
+     *
+     * @param termo texto buscado (já sem espaços nas pontas)
+     * @param cursorRelevancia relevância do último jogo já devolvido ou null
+     * @param cursorData data/hora da partida do último jogo já devolvido ou null
+     * @param cursorId ID do último jogo já devolvido ou null
+     * @param limite quantidade máxima de jogos a devolver
+     * @param origem banco principal ou réplica
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    @SuppressWarnings("unchecked")
+    public List<ResultadoBuscaDTO> buscarPorTime(String termo, Float cursorRelevancia,
+            LocalDateTime cursorData, Long cursorId, int limite, OrigemLeitura origem) {
+        try {
+            boolean continuar = cursorRelevancia != null && cursorData != null && cursorId != null;
+            StringBuilder sql = new StringBuilder(
+                "SELECT * FROM (SELECT id, time_a, time_b, placar_a, placar_b, status,"
+                + " data_hora_partida, data_criacao, data_atualizacao, versao,"
+                + " GREATEST(word_similarity(?1, time_a), word_similarity(?1, time_b)) AS relevancia"
+                + " FROM jogos WHERE time_a ILIKE ?2 OR time_b ILIKE ?2) r");
+            if (continuar) {
+                sql.append(" WHERE (relevancia, data_hora_partida, id) < (CAST(?3 AS real), ?4, ?5)");
+            }
+            sql.append(" ORDER BY relevancia DESC, data_hora_partida DESC, id DESC LIMIT ?6");
+
+            String consulta = sql.toString();
+            List<Object[]> linhas = ler(origem, em -> {
+                Query query = em.createNativeQuery(consulta);
+                query.setParameter(1, termo);
+                query.setParameter(2, "%" + escaparLike(termo) + "%");
+                if (continuar) {
+                    query.setParameter(3, cursorRelevancia);
+                    query.setParameter(4, cursorData);
+                    query.setParameter(5, cursorId);
+                }
+                query.setParameter(6, limite);
+                query.setHint(HibernateHints.HINT_READ_ONLY, true);
+                query.setFlushMode(FlushModeType.COMMIT);
+                return (List<Object[]>) query.getResultList();
+            });
+            List<ResultadoBuscaDTO> resultado = new ArrayList<>(linhas.size());
+            for (Object[] linha : linhas) {
+                JogoDTO jogo = new JogoDTO(
+                    comoLong(linha[0]), (String) linha[1], (String) linha[2],
+                    ((Number) linha[3]).intValue(), ((Number) linha[4]).intValue(),
+                    StatusJogo.valueOf((String) linha[5]),
+                    comoData(linha[6]), comoData(linha[7]), comoData(linha[8]),
+                    linha[9] != null ? comoLong(linha[9]) : null);
+                resultado.add(new ResultadoBuscaDTO(jogo, ((Number) linha[10]).floatValue()));
+            }
+            return resultado;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar jogos por time: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lista os nomes distintos de todos os times já cadastrados.
+     *
+     * Usado só pra montar o índice de autocompletar na subida da
+     * aplicação, então não tem problema ser uma varredura (e pode
+     * ir pra réplica).
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    @SuppressWarnings("unchecked")
+    public List<String> listarNomesTimes() {
+        try {
+            return ler(OrigemLeitura.REPLICA, em -> (List<String>) em.createNativeQuery(
+                "SELECT time_a FROM jogos UNION SELECT time_b FROM jogos")
+                .getResultList());
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao listar nomes dos times: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Percorre todos os jogos, um de cada vez, sem carregar a tabela inteira.
+     *
+     * Usa um cursor forward-only do Hibernate com fetch size, então o
+     * driver do PostgreSQL traz as linhas em lotes. A cada lote o
+     * contexto de persistência é limpo pra memória não crescer com o
+     * número de jogos. As entidades entregues pro consumidor não devem
+     * ser guardadas nem alteradas.
+     *
+     * Exportação aceita dado um pouco atrasado, então vai pra réplica
+     * quando ela estiver em dia (sem refazer no principal se falhar
+     * no meio, pra não duplicar linhas).
+     *
+     * Roda fora de transação JTA: uma exportação da tabela inteira
+     * passaria do timeout padrão da transação. No principal a leitura
+     * usa uma conexão própria, ver {@link #percorrerNoPrincipal}.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void percorrerTodos(Consumer<Jogo> consumidor) {
+        try {
+            Function<EntityManager, Void> percorrer = em -> {
+                Session session = em.unwrap(Session.class);
+                try (ScrollableResults<Jogo> resultados = session
+                        .createQuery(CONSULTA_EXPORTACAO, Jogo.class)
+                        .setReadOnly(true)
+                        .setFetchSize(TAMANHO_LOTE_EXPORTACAO)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+                    int contador = 0;
+                    while (resultados.next()) {
+                        consumidor.accept(resultados.get());
+                        if (++contador % TAMANHO_LOTE_EXPORTACAO == 0) {
+                            em.clear();
+                        }
+                    }
+                }
+                return null;
+            };
+            roteadorLeitura.lerSemRepetir(percorrer, () -> percorrerNoPrincipal(consumidor));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao percorrer jogos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Exportação no principal, numa sessão somente leitura montada à mão.
+     *
+     * Sem transação JTA, o EntityManager do container não segura a
+     * conexão entre uma chamada e outra, e em autocommit o driver do
+     * PostgreSQL ignora o fetch size e traz tudo de uma vez. Então pega
+     * uma conexão do pool, desliga o autocommit (marcando somente
+     * leitura), abre uma StatelessSession em cima dela (sem contexto de
+     * persistência pra limpar) e no fim desfaz e devolve a conexão.
+     */
+    private Void percorrerNoPrincipal(Consumer<Jogo> consumidor) {
+        SessionFactoryImplementor fabrica = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class);
+        ConnectionProvider conexoes = fabrica.getServiceRegistry().getService(ConnectionProvider.class);
+        try {
+            Connection conexao = conexoes.getConnection();
+            try {
+                conexao.setAutoCommit(false);
+                conexao.setReadOnly(true);
+                try (StatelessSession sessao = fabrica.withStatelessOptions().connection(conexao)
+                        .openStatelessSession();
+                        ScrollableResults<Jogo> resultados = sessao
+                            .createQuery(CONSULTA_EXPORTACAO, Jogo.class)
+                            .setFetchSize(TAMANHO_LOTE_EXPORTACAO)
+                            .scroll(ScrollMode.FORWARD_ONLY)) {
+                    while (resultados.next()) {
+                        consumidor.accept(resultados.get());
+                    }
+                } finally {
+                    conexao.rollback();
+                    conexao.setReadOnly(false);
+                    conexao.setAutoCommit(true);
+                }
+            } finally {
+                conexoes.closeConnection(conexao);
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro na conexão da exportação: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Percorre os IDs de todos os jogos (inclusive arquivados), em lotes.
+     *
+     * Lê sempre do principal: um jogo recém-criado que a réplica
+     * ainda não tem ficaria de fora do filtro de IDs conhecidos.
+     */
+    public void percorrerIds(Consumer<Long> consumidor) {
+        try {
+            Session session = entityManager.unwrap(Session.class);
+            try (ScrollableResults<Long> resultados = session
+                    .createQuery("SELECT j.id FROM Jogo j", Long.class)
+                    .setReadOnly(true)
+                    .setFetchSize(TAMANHO_LOTE_EXPORTACAO)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (resultados.next()) {
+                    consumidor.accept(resultados.get());
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao percorrer IDs dos jogos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lista jogos por status já como DTO (somente leitura).
+     *
+     * Caminho de leitura das listagens: a consulta monta o DTO direto
+     * (SELECT new), então o Hibernate não cria entidades gerenciadas,
+     * não guarda snapshot pra dirty checking e não faz flush antes.
+     * O resultado vai pro cache de consultas, numa região por status.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<JogoDTO> listarDTOPorStatus(StatusJogo status) {
+        try {
+            TypedQuery<JogoDTO> query = somenteLeitura(entityManager.createQuery(
+                PROJECAO_DTO + " WHERE j.status = :status" + filtroParticao(status)
+                + " ORDER BY j.dataHoraPartida DESC", JogoDTO.class));
+            cacheavel(query, StatusJogo.ENCERRADO.equals(status) 
+                ? REGIAO_CONSULTAS_ENCERRADOS : REGIAO_CONSULTAS_EM_ANDAMENTO);
+            query.setParameter("status", status);
+            return query.getResultList();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao listar jogos por status: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lista só os IDs dos jogos de um status, na ordem da listagem.
+     *
+     * Pros jogos em andamento é um index-only scan no índice parcial.
+     * O resultado vai pro cache de consultas; os dados de cada jogo
+     * quem chama busca no cache (Redis/L1) pelo ID.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Long> listarIdsPorStatus(StatusJogo status) {
+        try {
+            TypedQuery<Long> query = somenteLeitura(entityManager.createQuery(
+                "SELECT j.id FROM Jogo j WHERE j.status = :status" + filtroParticao(status)
+                + " ORDER BY j.dataHoraPartida DESC, j.id DESC", Long.class));
+            cacheavel(query, REGIAO_CONSULTAS_IDS);
+            query.setParameter("status", status);
+            return query.getResultList();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao listar IDs por status: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca vários jogos pelo ID já como DTO, em poucas consultas.
+     *
+     * Usado pra completar o que não estava no cache. Não garante
+     * ordem; IDs que não existem são ignorados.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<JogoDTO> listarDTOPorIds(List<Long> ids) {
+        try {
+            List<JogoDTO> resultado = new ArrayList<>(ids.size());
+            for (int inicio = 0; inicio < ids.size(); inicio += IDS_POR_CONSULTA) {
+                TypedQuery<JogoDTO> query = somenteLeitura(entityManager.createQuery(
+                    PROJECAO_DTO + " WHERE j.id IN :ids", JogoDTO.class));
+                query.setParameter("ids", ids.subList(inicio, 
+                    Math.min(inicio + IDS_POR_CONSULTA, ids.size())));
+                resultado.addAll(query.getResultList());
+            }
+            return resultado;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar jogos por IDs: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lista jogos por período já como DTO (somente leitura, com cache).
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<JogoDTO> listarDTOPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        try {
+            TypedQuery<JogoDTO> query = somenteLeitura(entityManager.createQuery(
+                PROJECAO_DTO + " WHERE j.dataHoraPartida BETWEEN :inicio AND :fim ORDER BY j.dataHoraPartida DESC",
+                JogoDTO.class));
+            // O período pode ter jogos em andamento, então usa a região de vida curta
+            cacheavel(query, REGIAO_CONSULTAS_EM_ANDAMENTO);
+            query.setParameter("inicio", inicio);
+            query.setParameter("fim", fim);
+            return query.getResultList();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao listar jogos por período: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Lista jogos em andamento
      */
@@ -124,13 +645,17 @@ public class JogoRepository {
 
     /**
      * Remove um jogo
+     *
+     * Devolve o jogo removido (ou vazio se não existia), pra quem
+     * chamou saber o status e o placar que ele tinha.
      */
-    public void remover(Long id) {
+    public Optional<Jogo> remover(Long id) {
         try {
             Jogo jogo = entityManager.find(Jogo.class, id);
             if (jogo != null) {
                 entityManager.remove(jogo);
             }
+            return Optional.ofNullable(jogo);
         } catch (Exception e) {
             throw new RuntimeException("Erro ao remover jogo: " + e.getMessage(), e);
         }
@@ -154,26 +679,222 @@ public class JogoRepository {
      * Conta o total de jogos
      */
     public long contarTotal() {
+        return contarTotal(OrigemLeitura.PRINCIPAL);
+    }
+
+    /**
+     * Conta o total de jogos, podendo ler da réplica
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public long contarTotal(OrigemLeitura origem) {
         try {
-            TypedQuery<Long> query = entityManager.createQuery(
-                "SELECT COUNT(j) FROM Jogo j", Long.class);
-            return query.getSingleResult();
+            return ler(origem, em -> em.createQuery(
+                "SELECT COUNT(j) FROM Jogo j", Long.class).getSingleResult());
         } catch (Exception e) {
             throw new RuntimeException("Erro ao contar total de jogos: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Garante que as partições de jogos existam (meses à frente e anos do arquivo).
+     *
+     * Chama a função garantir_particoes_jogos do banco, que só cria
+     * o que estiver faltando. Retorna quantas partições foram criadas.
+     */
+    public int garantirParticoes(int mesesAFrente) {
+        try {
+            Number criadas = (Number) entityManager.createNativeQuery(
+                "SELECT garantir_particoes_jogos(?1)")
+                .setParameter(1, mesesAFrente)
+                .getSingleResult();
+            return criadas.intValue();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao criar partições de jogos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Move um lote de jogos encerrados antigos pras partições de arquivo.
+     *
+     * Só marca arquivado = true; o PostgreSQL move as linhas de partição
+     * sozinho. Trabalha em lotes pra não segurar trava por muito tempo.
+     * Retorna quantos jogos foram arquivados (0 = não tem mais nada).
+     */
+    public int arquivarEncerrados(LocalDateTime anteriorA, int lote) {
+        try {
+            Query query = entityManager.createNativeQuery(
+                "UPDATE jogos SET arquivado = TRUE"
+                + " WHERE arquivado = FALSE AND data_hora_partida < ?1 AND id IN ("
+                + " SELECT id FROM jogos_ativos WHERE status = 'ENCERRADO' AND data_hora_partida < ?1"
+                + " ORDER BY data_hora_partida LIMIT ?2)");
+            query.setParameter(1, anteriorA);
+            query.setParameter(2, lote);
+            // Só a região de Jogo precisa ser invalidada, não o cache inteiro
+            query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Jogo.class);
+            return query.executeUpdate();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao arquivar jogos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lê os números gerais da view estatisticas_jogos numa única consulta.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public EstatisticasDTO obterResumoEstatisticas() {
+        try {
+            Object[] linha = (Object[]) entityManager.createNativeQuery(
+                "SELECT total_jogos, jogos_em_andamento, jogos_encerrados, total_gols,"
+                + " maior_placar, menor_placar FROM estatisticas_jogos")
+                .getSingleResult();
+            return new EstatisticasDTO(
+                comoLong(linha[0]), comoLong(linha[1]), comoLong(linha[2]), comoLong(linha[3]),
+                linha[4] != null ? ((Number) linha[4]).intValue() : null,
+                linha[5] != null ? ((Number) linha[5]).intValue() : null,
+                LocalDateTime.now());
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao obter estatísticas dos jogos: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Conta jogos por status
      */
     public long contarPorStatus(StatusJogo status) {
+        return contarPorStatus(status, OrigemLeitura.PRINCIPAL);
+    }
+
+    /**
+     * Conta jogos por status, podendo ler da réplica
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public long contarPorStatus(StatusJogo status, OrigemLeitura origem) {
         try {
-            TypedQuery<Long> query = entityManager.createQuery(
-                "SELECT COUNT(j) FROM Jogo j WHERE j.status = :status", Long.class);
-            query.setParameter("status", status);
-            return query.getSingleResult();
+            return ler(origem, em -> em.createQuery(
+                "SELECT COUNT(j) FROM Jogo j WHERE j.status = :status" + filtroParticao(status), Long.class)
+                .setParameter("status", status)
+                .getSingleResult());
         } catch (Exception e) {
             throw new RuntimeException("Erro ao contar jogos por status: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Filtro extra que deixa o PostgreSQL podar as partições de arquivo.
+     *
+     * Jogo em andamento nunca está arquivado, então quando a consulta
+     * é só de jogos em andamento dá pra olhar só jogos_ativos.
+     */
+    private String filtroParticao(StatusJogo status) {
+        return StatusJogo.EM_ANDAMENTO.equals(status) ? " AND j.arquivado = false" : "";
+    }
+
+    /**
+     * Roda a leitura no banco principal ou, se pedido, na réplica
+     * (que cai sozinha no principal quando está atrasada ou fora).
+     */
+    private <T> T ler(OrigemLeitura origem, Function<EntityManager, T> consulta) {
+        if (origem == OrigemLeitura.REPLICA) {
+            return roteadorLeitura.ler(consulta, () -> consulta.apply(entityManager));
+        }
+        return consulta.apply(entityManager);
+    }
+
+    private long comoLong(Object valor) {
+        return valor != null ? ((Number) valor).longValue() : 0L;
+    }
+
+    private LocalDateTime comoData(Object valor) {
+        if (valor instanceof Timestamp) {
+            return ((Timestamp) valor).toLocalDateTime();
+        }
+        return (LocalDateTime) valor;
+    }
+
+    /**
+     * Escapa os curingas do LIKE (% e _) pra o termo ser buscado literalmente.
+     */
+    private String escaparLike(String termo) {
+        return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Marca a consulta como somente leitura e sem flush automático.
+     */
+    private <T> TypedQuery<T> somenteLeitura(TypedQuery<T> query) {
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setFlushMode(FlushModeType.COMMIT);
+        return query;
+    }
+
+    /**
+     * Obtém os números do cache de segundo nível e do cache de consultas.
+     *
+     * Junto vão as contagens de conexões e statements do Hibernate,
+     * pra comparar com e sem cache quanto o pool PostgreSQLDS está
+     * sendo poupado.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Map<String, Long> obterEstatisticasCache() {
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        Map<String, Long> resultado = new LinkedHashMap<>();
+
+        CacheRegionStatistics entidades = estatisticas.getDomainDataRegionStatistics(Jogo.REGIAO_CACHE);
+        resultado.put("entidade.acertos", entidades.getHitCount());
+        resultado.put("entidade.faltas", entidades.getMissCount());
+        resultado.put("entidade.insercoes", entidades.getPutCount());
+        resultado.put("entidade.elementosEmMemoria", entidades.getElementCountInMemory());
+
+        for (String regiao : new String[] {REGIAO_CONSULTAS_ENCERRADOS, REGIAO_CONSULTAS_EM_ANDAMENTO,
+                REGIAO_CONSULTAS_IDS}) {
+            CacheRegionStatistics consultas = estatisticas.getQueryRegionStatistics(regiao);
+            resultado.put(regiao + ".acertos", consultas != null ? consultas.getHitCount() : 0L);
+            resultado.put(regiao + ".faltas", consultas != null ? consultas.getMissCount() : 0L);
+            resultado.put(regiao + ".insercoes", consultas != null ? consultas.getPutCount() : 0L);
+        }
+
+        resultado.put("consultas.acertos", estatisticas.getQueryCacheHitCount());
+        resultado.put("consultas.faltas", estatisticas.getQueryCacheMissCount());
+        resultado.put("banco.conexoes", estatisticas.getConnectCount());
+        resultado.put("banco.statements", estatisticas.getPrepareStatementCount());
+        return resultado;
+    }
+
+    /**
+     * Tira do cache tudo que pode mostrar o placar antigo de um jogo em andamento.
+     *
+     * O UPDATE nativo passa por fora do Hibernate, então ele não sabe
+     * que o jogo mudou. Invalida agora e de novo depois do commit, pra
+     * não sobrar no cache uma leitura feita antes do commit.
+     */
+    private void invalidarCacheJogoEmAndamento(Long id) {
+        Runnable invalidar = () -> {
+            SessionFactory sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class);
+            sessionFactory.getCache().evictEntityData(Jogo.class, id);
+            sessionFactory.getCache().evictQueryRegion(REGIAO_CONSULTAS_EM_ANDAMENTO);
+        };
+        invalidar.run();
+        transacoes.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nada a fazer antes do commit
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                invalidar.run();
+            }
+        });
+    }
+
+    /**
+     * Coloca a consulta no cache de consultas do Hibernate, na região informada.
+     */
+    private <T> TypedQuery<T> cacheavel(TypedQuery<T> query, String regiao) {
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, regiao);
+        return query;
+    }
 }
@@ -0,0 +1,17 @@
+package br.com.futebol.infrastructure.repository;
+
+/**
+ * De onde uma leitura do {@link JogoRepository} pode vir.
+ *
+ * Quem chama escolhe: se o dado pode estar alguns segundos
+ * atrasado, usa REPLICA; se precisa ver o que acabou de ser
+ * gravado, usa PRINCIPAL.
+ */
+public enum OrigemLeitura {
+
+    /** Banco principal, sempre atualizado. */
+    PRINCIPAL,
+
+    /** Réplica de leitura, se estiver em dia; senão cai no principal. */
+    REPLICA
+}
@@ -0,0 +1,107 @@
+package br.com.futebol.infrastructure.repository;
+
+import br.com.futebol.infrastructure.messaging.EventoOutbox;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import org.hibernate.query.NativeQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Acesso à tabela outbox_eventos.
+ *
+ * A gravação entra na transação de quem chamou (o mesmo commit do
+ * jogo). A leitura pro relay trava as linhas com SKIP LOCKED, então
+ * mais de um servidor pode drenar a tabela sem publicar o mesmo
+ * evento duas vezes ao mesmo tempo.
+ */
+@ApplicationScoped
+@Transactional
+public class OutboxRepository {
+
+    /** Máximo de eventos por INSERT de várias linhas. */
+    private static final int EVENTOS_POR_INSERT = 500;
+
+    /** Tabela do outbox; informada ao Hibernate pra ele não invalidar o cache dos jogos. */
+    private static final String TABELA = "outbox_eventos";
+
+    @PersistenceContext(unitName = "futebolPU")
+    private EntityManager entityManager;
+
+    /**
+     * Grava eventos no outbox, na transação atual.
+     *
+     * Vários eventos viram um único INSERT com várias linhas (em
+     * blocos de até 500), em vez de uma ida ao banco por evento.
+     */
+    public void inserir(String routingKey, List<String> payloads) {
+        try {
+            for (int inicio = 0; inicio < payloads.size(); inicio += EVENTOS_POR_INSERT) {
+                List<String> bloco = payloads.subList(inicio,
+                    Math.min(inicio + EVENTOS_POR_INSERT, payloads.size()));
+                StringBuilder sql = new StringBuilder(
+                    "INSERT INTO outbox_eventos (routing_key, payload) VALUES ");
+                for (int i = 0; i < bloco.size(); i++) {
+                    sql.append(i > 0 ? ", " : "").append("(?1, ?").append(i + 2).append(')');
+                }
+                Query query = semCacheDeJogos(entityManager.createNativeQuery(sql.toString()));
+                query.setParameter(1, routingKey);
+                for (int i = 0; i < bloco.size(); i++) {
+                    query.setParameter(i + 2, bloco.get(i));
+                }
+                query.executeUpdate();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao gravar eventos no outbox: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Trava um lote de eventos pendentes, entrega pro publicador e apaga.
+     *
+     * Tudo numa transação só: se o publicador lançar exceção (broker
+     * fora, confirmação negada), nada é apagado e o lote volta a ser
+     * tentado na próxima rodada. Retorna quantos eventos foram
+     * publicados.
+     */
+    @SuppressWarnings("unchecked")
+    public int processarPendentes(int lote, Consumer<List<EventoOutbox>> publicador) {
+        List<Object[]> linhas = entityManager.createNativeQuery(
+            "SELECT id, routing_key, payload FROM outbox_eventos"
+            + " ORDER BY id LIMIT ?1 FOR UPDATE SKIP LOCKED")
+            .setParameter(1, lote)
+            .getResultList();
+        if (linhas.isEmpty()) {
+            return 0;
+        }
+
+        List<EventoOutbox> eventos = new ArrayList<>(linhas.size());
+        List<Long> ids = new ArrayList<>(linhas.size());
+        for (Object[] linha : linhas) {
+            Long id = ((Number) linha[0]).longValue();
+            eventos.add(new EventoOutbox(id, (String) linha[1], (String) linha[2]));
+            ids.add(id);
+        }
+
+        publicador.accept(eventos);
+
+        semCacheDeJogos(entityManager.createNativeQuery("DELETE FROM outbox_eventos WHERE id IN (:ids)"))
+            .setParameter("ids", ids)
+            .executeUpdate();
+        return eventos.size();
+    }
+
+    /**
+     * Sem isso, todo SQL nativo de escrita faz o Hibernate limpar o
+     * cache de segundo nível inteiro, inclusive a região de Jogo.
+     */
+    private Query semCacheDeJogos(Query query) {
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(TABELA);
+        return query;
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.futebol.infrastructure.repository;
+
+import br.com.futebol.infrastructure.util.ConfiguracaoAplicacao;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decide se uma leitura vai pra réplica ou pro banco principal.
+ *
+ * A réplica é a unidade de persistência futebolReplicaPU (datasource
+ * PostgreSQLReplicaDS, fora do JTA). De tempos em tempos o atraso
+ * dela é medido; se passar do limite, ou se a réplica der erro, as
+ * leituras voltam pro principal até a próxima medição boa.
+ *
+ * Uma instância PostgreSQL comum (fora de recuperação) é tratada
+ * como réplica sem atraso, então dá pra testar com um segundo
+ * banco local.
+ */
+@ApplicationScoped
+public class RoteadorLeitura {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoteadorLeitura.class);
+
+    /** Se as leituras podem ir pra réplica. */
+    private static final boolean HABILITADA = ConfiguracaoAplicacao.obterBooleano(
+            "replica.habilitada", true);
+
+    /** Atraso máximo aceito, em segundos. */
+    private static final int ATRASO_MAXIMO_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "replica.atraso_maximo_segundos", 5);
+
+    /** Intervalo entre as medições de atraso, em segundos. */
+    private static final int INTERVALO_VERIFICACAO_SEGUNDOS = ConfiguracaoAplicacao.obterInteiro(
+            "replica.verificacao_segundos", 5);
+
+    /**
+     * Atraso da réplica em segundos. É zero quando não é standby ou
+     * quando está recebendo WAL e já aplicou tudo que recebeu
+     * (principal parado não conta como atraso). Standby sem WAL
+     * receiver em streaming devolve NULL: ele também "aplicou tudo
+     * que recebeu", mas não recebe mais nada e pode estar velho de
+     * qualquer tamanho. Sem permissão pra ver o status (precisa de
+     * pg_read_all_stats), basta o receiver existir.
+     */
+    private static final String SQL_ATRASO =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+        + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver"
+        + " WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL"
+        + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+        + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @PersistenceUnit(unitName = "futebolReplicaPU")
+    private EntityManagerFactory replica;
+
+    @Resource
+    private ManagedScheduledExecutorService agendador;
+
+    /** Se a última medição deixou usar a réplica. Começa fechado até medir. */
+    private volatile boolean replicaUtilizavel;
+
+    /** Último atraso medido, em segundos (-1 = réplica fora do ar). */
+    private volatile double atrasoSegundos = -1;
+
+    private ScheduledFuture<?> tarefaVerificacao;
+
+    /**
+     * Agenda a medição do atraso da réplica quando a aplicação sobe.
+     *
+     * @param evento Evento de inicialização do contexto de aplicação
+     */
+    public void iniciar(@Observes @Initialized(ApplicationScoped.class) final Object evento) {
+        if (!HABILITADA || replica == null || agendador == null) {
+            LOGGER.info("Réplica de leitura desabilitada, tudo vai pro banco principal");
+            return;
+        }
+        tarefaVerificacao = agendador.scheduleWithFixedDelay(this::verificarAtraso,
+                0, INTERVALO_VERIFICACAO_SEGUNDOS, TimeUnit.SECONDS);
+        LOGGER.info("Réplica de leitura habilitada (atraso máximo {}s)", ATRASO_MAXIMO_SEGUNDOS);
+    }
+
+    /**
+     * Executa a leitura na réplica, ou no principal se a réplica não servir.
+     *
+     * A leitura na réplica roda numa transação local que é sempre
+     * desfeita (só leitura) e com o EntityManager aberto só durante
+     * a consulta. Se der erro, marca a réplica como fora do ar e
+     * refaz a leitura no principal.
+     *
+     * @param consulta leitura a executar com o EntityManager da réplica
+     * @param principal a mesma leitura no banco principal
+     * @return resultado da leitura
+     */
+    public <T> T ler(Function<EntityManager, T> consulta, Supplier<T> principal) {
+        if (!replicaUtilizavel) {
+            return principal.get();
+        }
+        try {
+            return executarNaReplica(consulta);
+        } catch (RuntimeException e) {
+            alterarEstado(false, -1);
+            LOGGER.warn("Erro ao ler da réplica, usando o banco principal: {}", e.getMessage());
+            return principal.get();
+        }
+    }
+
+    /**
+     * Escolhe a origem uma vez só e executa, sem refazer em caso de erro.
+     *
+     * Pra leituras que vão entregando o resultado aos poucos (como a
+     * exportação): refazer no principal depois de um erro no meio
+     * duplicaria o que já foi entregue.
+     *
+     * @param consulta leitura a executar com o EntityManager escolhido
+     * @param principal a mesma leitura no banco principal
+     * @return resultado da leitura
+     */
+    public <T> T lerSemRepetir(Function<EntityManager, T> consulta, Supplier<T> principal) {
+        return replicaUtilizavel ? executarNaReplica(consulta) : principal.get();
+    }
+
+    /**
+     * Último atraso medido da réplica, em segundos (-1 = fora do ar).
+     */
+    public double getAtrasoSegundos() {
+        return atrasoSegundos;
+    }
+
+    /**
+     * Se as leituras estão indo pra réplica neste momento.
+     */
+    public boolean isReplicaUtilizavel() {
+        return replicaUtilizavel;
+    }
+
+    /**
+     * Cancela a medição agendada.
+     */
+    @PreDestroy
+    public void destruir() {
+        if (tarefaVerificacao != null) {
+            tarefaVerificacao.cancel(false);
+        }
+    }
+
+    private void verificarAtraso() {
+        try {
+            Number atraso = executarNaReplica(em ->
+                (Number) em.createNativeQuery(SQL_ATRASO).getSingleResult());
+            if (atraso == null) {
+                // Standby sem receber WAL: tão ruim quanto fora do ar
+                alterarEstado(false, -1);
+                return;
+            }
+            double segundos = atraso.doubleValue();
+            alterarEstado(segundos <= ATRASO_MAXIMO_SEGUNDOS, segundos);
+        } catch (Exception e) {
+            alterarEstado(false, -1);
+            LOGGER.debug("Réplica indisponível: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda o novo estado e loga só quando muda, pra não encher o log.
+     */
+    private void alterarEstado(boolean utilizavel, double segundos) {
+        boolean anterior = replicaUtilizavel;
+        atrasoSegundos = segundos;
+        replicaUtilizavel = utilizavel;
+        if (anterior != utilizavel) {
+            if (utilizavel) {
+                LOGGER.info("Leituras voltaram pra réplica (atraso {}s)", segundos);
+            } else if (segundos < 0) {
+                LOGGER.warn("Réplica fora do ar ou sem receber WAL, leituras indo pro banco principal");
+            } else {
+                LOGGER.warn("Réplica atrasada {}s (máximo {}s), leituras indo pro banco principal",
+                        segundos, ATRASO_MAXIMO_SEGUNDOS);
+            }
+        }
+    }
+
+    private <T> T executarNaReplica(Function<EntityManager, T> consulta) {
+        EntityManager em = replica.createEntityManager();
+        EntityTransaction transacao = em.getTransaction();
+        try {
+            // Precisa de transação pro driver respeitar o fetch size (cursor no servidor)
+            transacao.begin();
+            return consulta.apply(em);
+        } finally {
+            if (transacao.isActive()) {
+                transacao.rollback();
+            }
+            em.close();
+        }
+    }
+}
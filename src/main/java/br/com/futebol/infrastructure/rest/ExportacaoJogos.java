@@ -0,0 +1,138 @@
+package br.com.futebol.infrastructure.rest;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.application.service.JogoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Escreve a exportação de jogos direto na resposta HTTP.
+ *
+ * Cada linha é gravada assim que o jogo sai do banco, então
+ * a memória usada não depende de quantos jogos existem.
+ * Suporta NDJSON (um JSON por linha) e CSV.
+ */
+public class ExportacaoJogos implements StreamingOutput {
+
+    /**
+     * Formatos de exportação suportados.
+     */
+    public enum Formato {
+
+        /** Um objeto JSON por linha. */
+        NDJSON("application/x-ndjson", "ndjson"),
+
+        /** Valores separados por vírgula, com cabeçalho. */
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extensao;
+
+        Formato(String mediaType, String extensao) {
+            this.mediaType = mediaType;
+            this.extensao = extensao;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+    }
+
+    private static final String CABECALHO_CSV =
+            "id,timeA,timeB,placarA,placarB,status,dataHoraPartida,dataCriacao,dataAtualizacao,versao";
+
+    private final JogoService jogoService;
+    private final Formato formato;
+    private final ObjectMapper objectMapper;
+
+    public ExportacaoJogos(JogoService jogoService, Formato formato) {
+        this.jogoService = jogoService;
+        this.formato = formato;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            if (formato == Formato.CSV) {
+                writer.write(CABECALHO_CSV);
+                writer.write('\n');
+            }
+            jogoService.exportarTodos(jogo -> {
+                try {
+                    if (formato == Formato.CSV) {
+                        escreverCsv(writer, jogo);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(jogo));
+                    }
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Geralmente é o cliente que fechou a conexão no meio do download
+            throw new IOException("Exportação interrompida: " + e.getMessage(), e);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Escreve um jogo como linha CSV (sem a quebra de linha).
+     */
+    private void escreverCsv(Writer writer, JogoDTO jogo) throws IOException {
+        writer.write(String.valueOf(jogo.getId()));
+        writer.write(',');
+        writer.write(escaparCsv(jogo.getTimeA()));
+        writer.write(',');
+        writer.write(escaparCsv(jogo.getTimeB()));
+        writer.write(',');
+        writer.write(String.valueOf(jogo.getPlacarA()));
+        writer.write(',');
+        writer.write(String.valueOf(jogo.getPlacarB()));
+        writer.write(',');
+        writer.write(jogo.getStatus() != null ? jogo.getStatus().name() : "");
+        writer.write(',');
+        writer.write(formatarData(jogo.getDataHoraPartida()));
+        writer.write(',');
+        writer.write(formatarData(jogo.getDataCriacao()));
+        writer.write(',');
+        writer.write(formatarData(jogo.getDataAtualizacao()));
+        writer.write(',');
+        writer.write(jogo.getVersao() != null ? String.valueOf(jogo.getVersao()) : "");
+    }
+
+    /**
+     * Coloca aspas no valor se ele tiver vírgula, aspas ou quebra de linha.
+     */
+    private String escaparCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private String formatarData(LocalDateTime data) {
+        return data != null ? data.toString() : "";
+    }
+}
@@ -1,10 +1,14 @@
 package br.com.futebol.infrastructure.rest;
 
 import br.com.futebol.application.dto.AtualizacaoPlacarDTO;
+import br.com.futebol.application.dto.EstatisticasDTO;
 import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.application.dto.PaginaDTO;
 import br.com.futebol.application.service.JogoService;
+import br.com.futebol.domain.enums.LadoPlacar;
 import br.com.futebol.domain.enums.StatusJogo;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -29,6 +33,7 @@ public class JogoRestController {
 
     private static final Logger logger = LoggerFactory.getLogger(JogoRestController.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
 
     @Inject
     private JogoService jogoService;
@@ -58,25 +63,65 @@ public class JogoRestController {
         }
     }
 
+    /**
+     * POST /jogos/lote - Criar vários jogos de uma vez.
+     * 
+     * Recebe uma lista de jogos (uma rodada, uma temporada) e
+     * cria todos numa única transação. Se algum for inválido,
+     * nenhum é criado.
+     */
+    @POST
+    @Path("/lote")
+    public Response criarJogos(@Valid List<@Valid JogoDTO> jogosDTO) {
+        try {
+            logger.info("Recebida requisição para criar lote de {} jogos", 
+                    jogosDTO != null ? jogosDTO.size() : 0);
+
+            List<JogoDTO> jogosCriados = jogoService.criarJogos(jogosDTO);
+
+            return Response.status(Response.Status.CREATED)
+                    .entity(jogosCriados)
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Lote de jogos inválido: {}", e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Erro ao criar lote de jogos: " + e.getMessage())
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao criar lote de jogos", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
+
     /**
      * GET /jogos - Listar jogos (com filtros opcionais).
      * 
      * Endpoint que retorna a lista de jogos. Pode filtrar
-     * por status ou período de datas.
+     * por status ou período de datas. A lista é paginada:
+     * "limit" define o tamanho da página (limitado por
+     * performance.max_results) e "cursor" continua de onde a
+     * página anterior parou. O cursor da próxima página vem
+     * no header X-Next-Cursor.
      */
     @GET
     public Response listarJogos(
             @QueryParam("status") String status,
             @QueryParam("dataInicio") String dataInicio,
-            @QueryParam("dataFim") String dataFim) {
+            @QueryParam("dataFim") String dataFim,
+            @QueryParam("limit") Integer limite,
+            @QueryParam("cursor") String cursor) {
 
         try {
-            List<JogoDTO> jogos;
+            StatusJogo statusJogo = null;
+            LocalDateTime inicio = null;
+            LocalDateTime fim = null;
 
             if (status != null && !status.isEmpty()) {
                 try {
-                    StatusJogo statusJogo = StatusJogo.valueOf(status.toUpperCase());
-                    jogos = jogoService.listarPorStatus(statusJogo);
+                    statusJogo = StatusJogo.valueOf(status.toUpperCase());
                 } catch (IllegalArgumentException e) {
                     return Response.status(Response.Status.BAD_REQUEST)
                             .entity("Status inválido: " + status)
@@ -84,19 +129,29 @@ public class JogoRestController {
                 }
             } else if (dataInicio != null && dataFim != null) {
                 try {
-                    LocalDateTime inicio = LocalDateTime.parse(dataInicio, FORMATTER);
-                    LocalDateTime fim = LocalDateTime.parse(dataFim, FORMATTER);
-                    jogos = jogoService.listarPorPeriodo(inicio, fim);
+                    inicio = LocalDateTime.parse(dataInicio, FORMATTER);
+                    fim = LocalDateTime.parse(dataFim, FORMATTER);
                 } catch (Exception e) {
                     return Response.status(Response.Status.BAD_REQUEST)
                             .entity("Formato de data inválido. Use: yyyy-MM-dd'T'HH:mm:ss")
                             .build();
                 }
-            } else {
-                jogos = jogoService.listarTodos();
             }
 
-            return Response.ok(jogos).build();
+            PaginaDTO<JogoDTO> pagina;
+            try {
+                pagina = jogoService.listarPagina(statusJogo, inicio, fim, limite, cursor);
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(e.getMessage())
+                        .build();
+            }
+
+            Response.ResponseBuilder resposta = Response.ok(pagina.getItens());
+            if (pagina.isPossuiMais()) {
+                resposta.header(HEADER_PROXIMO_CURSOR, pagina.getProximoCursor());
+            }
+            return resposta.build();
 
         } catch (Exception e) {
             logger.error("Erro ao listar jogos", e);
@@ -106,6 +161,93 @@ public class JogoRestController {
         }
     }
 
+    /**
+     * GET /jogos/busca - Buscar jogos pelo nome de um time.
+     * 
+     * Procura o termo em qualquer parte do nome do time A ou B
+     * (índices de trigramas no banco) e devolve os jogos mais
+     * parecidos primeiro. Pagina igual ao GET /jogos: "limit",
+     * "cursor" e o header X-Next-Cursor.
+     */
+    @GET
+    @Path("/busca")
+    public Response buscarPorTime(
+            @QueryParam("time") String time,
+            @QueryParam("limit") Integer limite,
+            @QueryParam("cursor") String cursor) {
+        try {
+            PaginaDTO<JogoDTO> pagina;
+            try {
+                pagina = jogoService.buscarPorTime(time, limite, cursor);
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(e.getMessage())
+                        .build();
+            }
+
+            Response.ResponseBuilder resposta = Response.ok(pagina.getItens());
+            if (pagina.isPossuiMais()) {
+                resposta.header(HEADER_PROXIMO_CURSOR, pagina.getProximoCursor());
+            }
+            return resposta.build();
+
+        } catch (Exception e) {
+            logger.error("Erro ao buscar jogos por time: {}", time, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
+
+    /**
+     * GET /jogos/busca/times - Autocompletar nomes de times.
+     * 
+     * Responde de um índice em memória, sem consultar o banco.
+     */
+    @GET
+    @Path("/busca/times")
+    public Response sugerirTimes(
+            @QueryParam("prefixo") String prefixo,
+            @QueryParam("limit") Integer limite) {
+        try {
+            return Response.ok(jogoService.sugerirTimes(prefixo, limite)).build();
+        } catch (Exception e) {
+            logger.error("Erro ao sugerir times para: {}", prefixo, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
+
+    /**
+     * GET /jogos/export - Exportar todos os jogos (streaming).
+     * 
+     * Endpoint pensado pra carga de análise: manda o histórico
+     * inteiro em NDJSON ou CSV, linha por linha, sem montar a
+     * lista em memória.
+     */
+    @GET
+    @Path("/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response exportarJogos(@QueryParam("format") @DefaultValue("ndjson") String formato) {
+        ExportacaoJogos.Formato formatoExportacao;
+        try {
+            formatoExportacao = ExportacaoJogos.Formato.valueOf(formato.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.TEXT_PLAIN)
+                    .entity("Formato inválido: " + formato + ". Use: ndjson ou csv")
+                    .build();
+        }
+
+        logger.info("Iniciando exportação de jogos em {}", formatoExportacao);
+        return Response.ok(new ExportacaoJogos(jogoService, formatoExportacao))
+                .type(formatoExportacao.getMediaType())
+                .header("Content-Disposition",
+                        "attachment; filename=jogos." + formatoExportacao.getExtensao())
+                .build();
+    }
+
     /**
      * GET /jogos/{id} - Buscar jogo por ID
      */
@@ -149,6 +291,11 @@ public class JogoRestController {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity("Jogo não encontrado com ID: " + id)
                     .build();
+        } catch (OptimisticLockException e) {
+            logger.warn("Conflito ao atualizar placar do jogo {}: {}", id, e.getMessage());
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(e.getMessage())
+                    .build();
         } catch (IllegalStateException e) {
             logger.warn("Operação inválida para jogo {}: {}", id, e.getMessage());
             return Response.status(Response.Status.BAD_REQUEST)
@@ -162,6 +309,45 @@ public class JogoRestController {
         }
     }
 
+    /**
+     * POST /jogos/{id}/gol?time=A|B - Somar um gol pro time
+     */
+    @POST
+    @Path("/{id}/gol")
+    public Response marcarGol(
+            @PathParam("id") Long id,
+            @QueryParam("time") String time) {
+
+        LadoPlacar lado;
+        try {
+            lado = LadoPlacar.deTexto(time);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+
+        try {
+            return Response.ok(jogoService.marcarGol(id, lado)).build();
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Jogo não encontrado: {}", id);
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Jogo não encontrado com ID: " + id)
+                    .build();
+        } catch (IllegalStateException e) {
+            logger.warn("Operação inválida para jogo {}: {}", id, e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao registrar gol no jogo: {}", id, e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
+
     /**
      * PUT /jogos/{id}/status - Alterar status
      */
@@ -275,13 +461,15 @@ public class JogoRestController {
 
     /**
      * GET /jogos/estatisticas - Obter estatísticas
+     * 
+     * Responde direto da memória (contadores mantidos a cada
+     * criação, encerramento e remoção), sem consultar o banco.
      */
     @GET
     @Path("/estatisticas")
-    @Produces(MediaType.TEXT_PLAIN)
     public Response obterEstatisticas() {
         try {
-            String estatisticas = jogoService.obterEstatisticas();
+            EstatisticasDTO estatisticas = jogoService.obterEstatisticas();
             return Response.ok(estatisticas).build();
         } catch (Exception e) {
             logger.error("Erro ao obter estatísticas", e);
@@ -290,4 +478,36 @@ public class JogoRestController {
                     .build();
         }
     }
+
+    /**
+     * GET /jogos/cache/estatisticas - Acertos e faltas do L1, do Redis e do cache de segundo nível
+     */
+    @GET
+    @Path("/cache/estatisticas")
+    public Response obterEstatisticasCache() {
+        try {
+            return Response.ok(jogoService.obterEstatisticasCache()).build();
+        } catch (Exception e) {
+            logger.error("Erro ao obter estatísticas do cache", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
+
+    /**
+     * GET /jogos/mensageria/estatisticas - Canais e confirmações do RabbitMQ
+     */
+    @GET
+    @Path("/mensageria/estatisticas")
+    public Response obterEstatisticasMensageria() {
+        try {
+            return Response.ok(jogoService.obterEstatisticasMensageria()).build();
+        } catch (Exception e) {
+            logger.error("Erro ao obter estatísticas da mensageria", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("Erro interno do servidor")
+                    .build();
+        }
+    }
 }
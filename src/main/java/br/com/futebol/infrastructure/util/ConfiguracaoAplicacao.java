@@ -0,0 +1,95 @@
+package br.com.futebol.infrastructure.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Classe utilitária que lê as configurações da aplicação.
+ *
+ * Procura primeiro nas propriedades de sistema (-Dchave=valor),
+ * depois no application.properties do classpath e, se não achar
+ * nada, usa o valor padrão informado.
+ */
+public final class ConfiguracaoAplicacao {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfiguracaoAplicacao.class);
+
+    private static final String ARQUIVO_PROPRIEDADES = "application.properties";
+
+    private static final Properties PROPRIEDADES = carregarPropriedades();
+
+    private ConfiguracaoAplicacao() {
+        // Classe utilitária, não deve ser instanciada
+    }
+
+    /**
+     * Obtém uma configuração como texto.
+     *
+     * @param chave nome da propriedade
+     * @param padrao valor usado quando a propriedade não existe
+     * @return valor configurado ou o padrão
+     */
+    public static String obterTexto(String chave, String padrao) {
+        String valor = System.getProperty(chave);
+        if (valor == null) {
+            valor = PROPRIEDADES.getProperty(chave);
+        }
+        return valor == null || valor.isBlank() ? padrao : valor.trim();
+    }
+
+    /**
+     * Obtém uma configuração numérica inteira.
+     *
+     * Se o valor configurado não for um número válido, loga
+     * um aviso e usa o padrão.
+     *
+     * @param chave nome da propriedade
+     * @param padrao valor usado quando a propriedade não existe ou é inválida
+     * @return valor configurado ou o padrão
+     */
+    public static int obterInteiro(String chave, int padrao) {
+        String valor = obterTexto(chave, null);
+        if (valor == null) {
+            return padrao;
+        }
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Valor inválido para {}: '{}', usando padrão {}", chave, valor, padrao);
+            return padrao;
+        }
+    }
+
+    /**
+     * Obtém uma configuração booleana.
+     *
+     * @param chave nome da propriedade
+     * @param padrao valor usado quando a propriedade não existe
+     * @return valor configurado ou o padrão
+     */
+    public static boolean obterBooleano(String chave, boolean padrao) {
+        String valor = obterTexto(chave, null);
+        return valor == null ? padrao : Boolean.parseBoolean(valor);
+    }
+
+    /**
+     * Carrega o application.properties do classpath, se existir.
+     */
+    private static Properties carregarPropriedades() {
+        Properties propriedades = new Properties();
+        try (InputStream entrada = ConfiguracaoAplicacao.class.getClassLoader()
+                .getResourceAsStream(ARQUIVO_PROPRIEDADES)) {
+            if (entrada != null) {
+                propriedades.load(entrada);
+            } else {
+                LOGGER.warn("{} não encontrado no classpath, usando valores padrão", ARQUIVO_PROPRIEDADES);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao carregar {}: {}", ARQUIVO_PROPRIEDADES, e.getMessage());
+        }
+        return propriedades;
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.futebol.infrastructure.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Disjuntor (circuit breaker) pra uma dependência externa.
+ *
+ * Depois de algumas falhas seguidas ele abre, e enquanto estiver
+ * aberto quem pergunta {@link #permite()} recebe "não" na hora, sem
+ * esperar timeout de conexão. Uma thread própria testa a dependência
+ * de tempos em tempos (a sonda) e fecha o disjuntor quando ela voltar;
+ * nenhuma requisição paga por esse teste.
+ *
+ * Sucesso e falha são informados por quem usa a dependência. Sucesso
+ * só zera a contagem: com o disjuntor aberto, quem fecha é a sonda.
+ */
+public class Disjuntor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Disjuntor.class);
+
+    private final String nome;
+    private final int falhasParaAbrir;
+    private final long intervaloSondaMs;
+    private final BooleanSupplier sonda;
+    private final ThreadFactory fabricaThreads;
+
+    private final AtomicInteger falhasSeguidas = new AtomicInteger();
+    private final AtomicBoolean aberto = new AtomicBoolean();
+    private final LongAdder aberturas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+
+    /** Fica false quando a aplicação está descendo (a sonda para). */
+    private volatile boolean ativo = true;
+
+    /**
+     * @param nome nome da dependência (vai nos logs e na thread da sonda)
+     * @param falhasParaAbrir falhas seguidas que abrem o disjuntor
+     * @param intervaloSondaMs intervalo entre os testes com o disjuntor aberto
+     * @param sonda teste da dependência; true = voltou
+     * @param fabricaThreads fábrica da thread da sonda (null = thread comum)
+     */
+    public Disjuntor(String nome, int falhasParaAbrir, long intervaloSondaMs,
+            BooleanSupplier sonda, ThreadFactory fabricaThreads) {
+        this.nome = nome;
+        this.falhasParaAbrir = Math.max(falhasParaAbrir, 1);
+        this.intervaloSondaMs = Math.max(intervaloSondaMs, 1);
+        this.sonda = sonda;
+        this.fabricaThreads = fabricaThreads;
+    }
+
+    /**
+     * Diz se pode usar a dependência agora.
+     *
+     * @return false com o disjuntor aberto
+     */
+    public boolean permite() {
+        if (aberto.get()) {
+            rejeitadas.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * A dependência respondeu: zera as falhas seguidas.
+     */
+    public void registrarSucesso() {
+        if (falhasSeguidas.get() != 0) {
+            falhasSeguidas.set(0);
+        }
+    }
+
+    /**
+     * A dependência falhou (conexão, timeout). Abre se atingiu o limite.
+     */
+    public void registrarFalha() {
+        if (falhasSeguidas.incrementAndGet() >= falhasParaAbrir) {
+            abrir("falhas seguidas");
+        }
+    }
+
+    /**
+     * Abre na hora, sem esperar as falhas (a dependência avisou que parou).
+     */
+    public void abrir(String motivo) {
+        if (!ativo || !aberto.compareAndSet(false, true)) {
+            return;
+        }
+        aberturas.increment();
+        LOGGER.warn("Disjuntor do {} aberto ({}): chamadas puladas até a sonda ver que voltou",
+                nome, motivo);
+        Thread thread = fabricaThreads != null
+                ? fabricaThreads.newThread(this::sondar) : new Thread(this::sondar);
+        thread.setName("disjuntor-" + nome);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isAberto() {
+        return aberto.get();
+    }
+
+    /** Quantas vezes abriu. */
+    public long getAberturas() {
+        return aberturas.sum();
+    }
+
+    /** Quantas chamadas foram puladas com ele aberto. */
+    public long getRejeitadas() {
+        return rejeitadas.sum();
+    }
+
+    /**
+     * Para a sonda (aplicação descendo).
+     */
+    public void desligar() {
+        ativo = false;
+    }
+
+    private void sondar() {
+        while (ativo) {
+            try {
+                Thread.sleep(intervaloSondaMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean voltou;
+            try {
+                voltou = sonda.getAsBoolean();
+            } catch (Exception e) {
+                voltou = false;
+            }
+            if (voltou) {
+                falhasSeguidas.set(0);
+                aberto.set(false);
+                LOGGER.info("Disjuntor do {} fechado: dependência respondeu à sonda", nome);
+                return;
+            }
+        }
+    }
+}
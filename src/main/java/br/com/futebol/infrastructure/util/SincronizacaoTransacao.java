@@ -0,0 +1,61 @@
+package br.com.futebol.infrastructure.util;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ajuda a rodar código só depois que a transação JTA atual for confirmada.
+ *
+ * Uso isso pra efeitos colaterais que não podem acontecer se a
+ * transação for desfeita (contadores, cache, etc.). Se não houver
+ * transação ativa, a ação roda na hora.
+ */
+@ApplicationScoped
+public class SincronizacaoTransacao {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SincronizacaoTransacao.class);
+
+    @Resource
+    private TransactionSynchronizationRegistry registro;
+
+    /**
+     * Executa a ação depois do commit da transação atual.
+     *
+     * Se a transação for desfeita, a ação é descartada. Erros
+     * da ação são logados e não afetam quem chamou.
+     *
+     * @param acao código a ser executado após o commit
+     */
+    public void executarAposCommit(Runnable acao) {
+        if (registro == null || registro.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            executarComSeguranca(acao);
+            return;
+        }
+        registro.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nada a fazer antes do commit
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    executarComSeguranca(acao);
+                }
+            }
+        });
+    }
+
+    private void executarComSeguranca(Runnable acao) {
+        try {
+            acao.run();
+        } catch (Exception e) {
+            LOGGER.warn("Erro ao executar ação pós-commit: {}", e.getMessage(), e);
+        }
+    }
+}
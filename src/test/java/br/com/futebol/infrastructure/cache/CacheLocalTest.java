@@ -0,0 +1,96 @@
+package br.com.futebol.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CacheLocalTest {
+
+    @Test
+    void devolveOQueFoiGuardado() {
+        CacheLocal<Long, String> cache = new CacheLocal<>(10, 60);
+
+        cache.guardar(1L, "um");
+
+        assertEquals("um", cache.obter(1L));
+        assertNull(cache.obter(2L));
+        assertEquals(1, cache.getAcertos());
+        assertEquals(1, cache.getFaltas());
+        assertEquals(0.5, cache.getTaxaAcerto());
+    }
+
+    @Test
+    void passandoDoLimiteSaiOUsadoHaMaisTempo() {
+        CacheLocal<Long, String> cache = new CacheLocal<>(2, 60);
+        cache.guardar(1L, "um");
+        cache.guardar(2L, "dois");
+        cache.obter(1L);
+
+        cache.guardar(3L, "tres");
+
+        assertEquals(2, cache.tamanho());
+        assertEquals("um", cache.obter(1L));
+        assertNull(cache.obter(2L));
+        assertEquals("tres", cache.obter(3L));
+        assertEquals(1, cache.getRemocoesPorTamanho());
+    }
+
+    @Test
+    void itemExpiradoViraFalta() throws InterruptedException {
+        CacheLocal<Long, String> cache = new CacheLocal<>(10, 0);
+        cache.guardar(1L, "um");
+        Thread.sleep(1);
+
+        assertNull(cache.obter(1L));
+        assertEquals(0, cache.tamanho());
+        assertEquals(1, cache.getFaltas());
+    }
+
+    @Test
+    void guardarSeAusenteNaoTrocaValorExistente() {
+        CacheLocal<Long, String> cache = new CacheLocal<>(10, 60);
+        cache.guardar(1L, "escrito");
+
+        cache.guardarSeAusente(1L, "lido do redis");
+        cache.guardarSeAusente(2L, "dois");
+
+        assertEquals("escrito", cache.obter(1L));
+        assertEquals("dois", cache.obter(2L));
+    }
+
+    @Test
+    void guardarSeMaisNovoIgnoraVersaoMaisVelha() {
+        CacheLocal<Long, long[]> cache = new CacheLocal<>(10, 60);
+        long[] versao3 = {3};
+
+        cache.guardarSeMaisNovo(1L, versao3, v -> v[0]);
+        cache.guardarSeMaisNovo(1L, new long[] {2}, v -> v[0]);
+
+        assertEquals(versao3, cache.obter(1L));
+
+        long[] outraVersao3 = {3};
+        cache.guardarSeMaisNovo(1L, outraVersao3, v -> v[0]);
+
+        assertEquals(outraVersao3, cache.obter(1L));
+    }
+
+    @Test
+    void removerELimpar() {
+        CacheLocal<Long, String> cache = new CacheLocal<>(10, 60);
+        cache.guardar(1L, "um");
+        cache.guardar(2L, "dois");
+
+        cache.remover(1L);
+        assertNull(cache.obter(1L));
+        assertEquals(1, cache.tamanho());
+
+        cache.limpar();
+        assertEquals(0, cache.tamanho());
+    }
+
+    @Test
+    void taxaDeAcertoSemConsultaEhZero() {
+        assertEquals(0, new CacheLocal<Long, String>(10, 60).getTaxaAcerto());
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.StatusJogo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os formatos do jogo no Redis: o ObjectMapper gravando texto,
+ * como o RedisService fazia antes dos codecs, o CodecJogoJson e o
+ * CodecJogoBinario.
+ *
+ * O tempo de codificar e decodificar sai em ns/op; o tamanho de cada
+ * formato (bytes por jogo) é impresso no início de cada fork.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CodecJogoBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecJogoBenchmark {
+
+    @Param({"objectMapper", "json", "binario"})
+    private String formato;
+
+    private CodecJogo codec;
+    private JogoDTO jogo;
+    private byte[] codificado;
+
+    @Setup
+    public void preparar() throws IOException {
+        if (CodecJogoJson.NOME.equals(formato)) {
+            codec = new CodecJogoJson();
+        } else if (CodecJogoBinario.NOME.equals(formato)) {
+            codec = new CodecJogoBinario();
+        } else {
+            codec = new TextoObjectMapper();
+        }
+        LocalDateTime partida = LocalDateTime.of(2024, 5, 12, 16, 0);
+        jogo = new JogoDTO(123456L, "Sociedade Esportiva Palmeiras", "Sport Club Corinthians Paulista",
+                2, 1, StatusJogo.EM_ANDAMENTO, partida, partida.minusDays(3), partida.plusMinutes(47), 7L);
+        codificado = codec.codificar(jogo);
+        System.out.printf("%n%s: %d bytes por jogo%n", formato, codificado.length);
+    }
+
+    @Benchmark
+    public byte[] codificar() throws IOException {
+        return codec.codificar(jogo);
+    }
+
+    @Benchmark
+    public JogoDTO decodificar() throws IOException {
+        return codec.decodificar(codificado);
+    }
+
+    /** O caminho antigo: writeValueAsString e o Jedis convertendo o texto em bytes. */
+    private static final class TextoObjectMapper implements CodecJogo {
+        private final ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        @Override
+        public String getNome() {
+            return "objectMapper";
+        }
+
+        @Override
+        public byte[] codificar(JogoDTO jogo) throws IOException {
+            return objectMapper.writeValueAsString(jogo).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public JogoDTO decodificar(byte[] dados) throws IOException {
+            return objectMapper.readValue(new String(dados, StandardCharsets.UTF_8), JogoDTO.class);
+        }
+
+        @Override
+        public boolean reconhece(byte[] dados) {
+            return true;
+        }
+    }
+}
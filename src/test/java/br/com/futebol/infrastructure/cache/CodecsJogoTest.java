@@ -0,0 +1,111 @@
+package br.com.futebol.infrastructure.cache;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.enums.StatusJogo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodecsJogoTest {
+
+    private static final LocalDateTime PARTIDA = LocalDateTime.of(2024, 5, 12, 16, 0);
+
+    @Test
+    void binarioVoltaOMesmoJogo() throws IOException {
+        CodecJogoBinario codec = new CodecJogoBinario();
+        JogoDTO jogo = jogoCompleto();
+
+        JogoDTO lido = codec.decodificar(codec.codificar(jogo));
+
+        assertMesmoJogo(jogo, lido);
+    }
+
+    @Test
+    void binarioMantemCamposNulos() throws IOException {
+        CodecJogoBinario codec = new CodecJogoBinario();
+        JogoDTO jogo = new JogoDTO();
+        jogo.setTimeA("Santos");
+        jogo.setPlacarA(null);
+        jogo.setStatus(null);
+
+        JogoDTO lido = codec.decodificar(codec.codificar(jogo));
+
+        assertEquals("Santos", lido.getTimeA());
+        assertNull(lido.getId());
+        assertNull(lido.getPlacarA());
+        assertNull(lido.getStatus());
+        assertNull(lido.getDataHoraPartida());
+    }
+
+    @Test
+    void binarioEhMenorQueJson() throws IOException {
+        JogoDTO jogo = jogoCompleto();
+
+        assertTrue(new CodecJogoBinario().codificar(jogo).length < new CodecJogoJson().codificar(jogo).length);
+    }
+
+    @Test
+    void leQualquerFormatoIndependenteDoDeEscrita() throws IOException {
+        JogoDTO jogo = jogoCompleto();
+        CodecsJogo gravaJson = new CodecsJogo(CodecJogoJson.NOME);
+        CodecsJogo gravaBinario = new CodecsJogo(CodecJogoBinario.NOME);
+
+        assertMesmoJogo(jogo, gravaBinario.decodificar(gravaJson.codificar(jogo)));
+        assertMesmoJogo(jogo, gravaJson.decodificar(gravaBinario.codificar(jogo)));
+    }
+
+    @Test
+    void versaoDesconhecidaDoBinarioFalha() throws IOException {
+        CodecJogoBinario codec = new CodecJogoBinario();
+        byte[] dados = codec.codificar(jogoCompleto());
+        dados[1] = 99;
+
+        assertThrows(IOException.class, () -> codec.decodificar(dados));
+    }
+
+    @Test
+    void valorTruncadoFalhaComoCorrompido() throws IOException {
+        CodecJogoBinario codec = new CodecJogoBinario();
+        byte[] dados = codec.codificar(jogoCompleto());
+        byte[] truncado = Arrays.copyOf(dados, dados.length - 3);
+
+        assertThrows(IOException.class, () -> codec.decodificar(truncado));
+    }
+
+    @Test
+    void formatoNaoReconhecidoFalha() {
+        CodecsJogo codecs = new CodecsJogo(CodecJogoJson.NOME);
+
+        assertThrows(IOException.class, () -> codecs.decodificar(new byte[] {1, 2, 3, 4}));
+    }
+
+    @Test
+    void codecDeEscritaDesconhecidoNaoSobe() {
+        assertThrows(IllegalArgumentException.class, () -> new CodecsJogo("xml"));
+    }
+
+    private static JogoDTO jogoCompleto() {
+        return new JogoDTO(123456L, "Palmeiras", "Corinthians", 2, 1, StatusJogo.ENCERRADO,
+                PARTIDA, PARTIDA.minusDays(3), PARTIDA.plusMinutes(95), 7L);
+    }
+
+    private static void assertMesmoJogo(JogoDTO esperado, JogoDTO lido) {
+        assertEquals(esperado.getId(), lido.getId());
+        assertEquals(esperado.getTimeA(), lido.getTimeA());
+        assertEquals(esperado.getTimeB(), lido.getTimeB());
+        assertEquals(esperado.getPlacarA(), lido.getPlacarA());
+        assertEquals(esperado.getPlacarB(), lido.getPlacarB());
+        assertEquals(esperado.getStatus(), lido.getStatus());
+        assertEquals(esperado.getDataHoraPartida(), lido.getDataHoraPartida());
+        assertEquals(esperado.getDataCriacao(), lido.getDataCriacao());
+        assertEquals(esperado.getDataAtualizacao(), lido.getDataAtualizacao());
+        assertEquals(esperado.getVersao(), lido.getVersao());
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.futebol.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FiltroIdsTest {
+
+    @Test
+    void contemSoOsAdicionados() {
+        FiltroIds filtro = new FiltroIds();
+
+        filtro.adicionar(1);
+        filtro.adicionar(63);
+        filtro.adicionar(64);
+
+        assertTrue(filtro.contem(1));
+        assertTrue(filtro.contem(63));
+        assertTrue(filtro.contem(64));
+        assertFalse(filtro.contem(0));
+        assertFalse(filtro.contem(2));
+        assertFalse(filtro.contem(65));
+    }
+
+    @Test
+    void removerTiraSoOId() {
+        FiltroIds filtro = new FiltroIds();
+        filtro.adicionar(10);
+        filtro.adicionar(11);
+
+        filtro.remover(10);
+        filtro.remover(999_999);
+
+        assertFalse(filtro.contem(10));
+        assertTrue(filtro.contem(11));
+    }
+
+    @Test
+    void idsNaMesmaPosicaoDePaginasDiferentesNaoSeMisturam() {
+        FiltroIds filtro = new FiltroIds();
+
+        filtro.adicionar(5);
+
+        assertFalse(filtro.contem(5 + 65_536));
+        assertFalse(filtro.contem(5 + 64));
+    }
+
+    @Test
+    void criaPaginaSoQuandoUmIdDaFaixaAparece() {
+        FiltroIds filtro = new FiltroIds();
+        assertEquals(0, filtro.getTamanhoBytes());
+
+        filtro.adicionar(1);
+        filtro.adicionar(65_535);
+        assertEquals(8192, filtro.getTamanhoBytes());
+
+        filtro.adicionar(65_536);
+        assertEquals(2 * 8192, filtro.getTamanhoBytes());
+        assertTrue(filtro.contem(65_535));
+        assertTrue(filtro.contem(65_536));
+    }
+}
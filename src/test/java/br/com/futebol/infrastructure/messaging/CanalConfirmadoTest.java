@@ -0,0 +1,130 @@
+package br.com.futebol.infrastructure.messaging;
+
+import com.rabbitmq.client.AMQP;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CanalConfirmadoTest {
+
+    private static final AMQP.BasicProperties PROPRIEDADES = new AMQP.BasicProperties.Builder().build();
+    private static final byte[] CORPO = {1, 2, 3};
+
+    private final EstatisticasConfirmacao estatisticas = new EstatisticasConfirmacao();
+    private final CanalFalso falso = CanalFalso.semConfirmar();
+
+    @Test
+    void ackSimplesCompletaSoAMensagemDele() throws IOException {
+        CanalConfirmado canal = canal(10, 3);
+        CompletableFuture<Void> primeira = publicar(canal);
+        CompletableFuture<Void> segunda = publicar(canal);
+
+        falso.confirmar(2, false);
+
+        assertFalse(primeira.isDone());
+        assertTrue(segunda.isDone());
+        assertEquals(1, canal.getEmVoo());
+    }
+
+    @Test
+    void ackMultiploCompletaTodasAteASequencia() throws IOException {
+        CanalConfirmado canal = canal(10, 3);
+        CompletableFuture<Void> primeira = publicar(canal);
+        CompletableFuture<Void> segunda = publicar(canal);
+        CompletableFuture<Void> terceira = publicar(canal);
+
+        falso.confirmar(2, true);
+
+        assertTrue(primeira.isDone());
+        assertTrue(segunda.isDone());
+        assertFalse(terceira.isDone());
+        assertEquals(2L, estatisticas.resumo().get("confirmacao.confirmadas"));
+        assertEquals(1, estatisticas.getEmVoo());
+    }
+
+    @Test
+    void nackRepublicaComNovaSequencia() throws IOException {
+        CanalConfirmado canal = canal(10, 3);
+        CompletableFuture<Void> envio = publicar(canal);
+
+        falso.negar(1, false);
+
+        assertEquals(List.of(1L, 2L), falso.getPublicadas());
+        assertFalse(envio.isDone());
+
+        falso.confirmar(2, false);
+
+        assertTrue(envio.isDone());
+        assertFalse(envio.isCompletedExceptionally());
+        assertEquals(1L, estatisticas.resumo().get("confirmacao.republicadas"));
+    }
+
+    @Test
+    void desisteDepoisDeNegadaAsTentativasTodas() throws IOException {
+        CanalConfirmado canal = canal(10, 2);
+        CompletableFuture<Void> envio = publicar(canal);
+
+        falso.negar(1, false);
+        falso.negar(2, false);
+
+        assertTrue(envio.isCompletedExceptionally());
+        assertEquals(1L, estatisticas.resumo().get("confirmacao.perdidas"));
+        assertEquals(0, estatisticas.getEmVoo());
+    }
+
+    @Test
+    void canalFechadoFalhaAsPendentes() throws IOException {
+        CanalConfirmado canal = canal(10, 3);
+        CompletableFuture<Void> primeira = publicar(canal);
+        CompletableFuture<Void> segunda = publicar(canal);
+
+        falso.fechar();
+
+        ExecutionException erro = assertThrows(ExecutionException.class, primeira::get);
+        assertInstanceOf(IOException.class, erro.getCause());
+        assertTrue(segunda.isCompletedExceptionally());
+        assertEquals(0, canal.getEmVoo());
+        assertEquals(0, estatisticas.getEmVoo());
+    }
+
+    @Test
+    void semVagaAPublicacaoFalhaEDevolveAVagaNoAck() throws IOException {
+        CanalConfirmado canal = canal(1, 3);
+        publicar(canal);
+
+        assertThrows(IOException.class, () -> publicar(canal));
+
+        falso.confirmar(1, false);
+        publicar(canal);
+        assertEquals(List.of(1L, 2L), falso.getPublicadas());
+    }
+
+    @Test
+    void publicacaoQueFalhaNaHoraNaoFicaEmVoo() throws IOException {
+        CanalConfirmado canal = canal(10, 3);
+        falso.fechar();
+
+        assertThrows(IOException.class, () -> publicar(canal));
+
+        assertEquals(0, canal.getEmVoo());
+        assertEquals(0, estatisticas.getEmVoo());
+        assertEquals(0L, estatisticas.resumo().get("confirmacao.publicadas"));
+    }
+
+    private CanalConfirmado canal(int maxEmVoo, int maxTentativas) throws IOException {
+        return new CanalConfirmado(falso.getCanal(), maxEmVoo, 10, maxTentativas, estatisticas);
+    }
+
+    private static CompletableFuture<Void> publicar(CanalConfirmado canal) throws IOException {
+        return canal.publicar("jogos.futebol", "jogo.criado", PROPRIEDADES, CORPO);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.futebol.infrastructure.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmCallback;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Channel de mentira, só com o que o {@link CanalConfirmado} usa.
+ *
+ * O basicPublish roda {@code aoPublicar} segurando a trava do canal
+ * (como o cliente AMQP, que escreve um canal por vez) e, se pedido,
+ * confirma na hora. Sem confirmação automática, o teste chama
+ * {@link #confirmar}, {@link #negar} e {@link #fechar} quando quiser.
+ */
+final class CanalFalso implements InvocationHandler {
+
+    private final Channel canal = (Channel) Proxy.newProxyInstance(
+            Channel.class.getClassLoader(), new Class<?>[] {Channel.class}, this);
+
+    private final boolean confirmaNaHora;
+    private final Runnable aoPublicar;
+
+    private long proximaSequencia = 1;
+    private final List<Long> publicadas = new ArrayList<>();
+    private volatile boolean aberto = true;
+
+    private ConfirmCallback aoConfirmar;
+    private ConfirmCallback aoNegar;
+    private ShutdownListener aoFechar;
+
+    private CanalFalso(boolean confirmaNaHora, Runnable aoPublicar) {
+        this.confirmaNaHora = confirmaNaHora;
+        this.aoPublicar = aoPublicar;
+    }
+
+    /** Canal que confirma cada mensagem assim que ela é publicada. */
+    static CanalFalso confirmandoNaHora(Runnable aoPublicar) {
+        return new CanalFalso(true, aoPublicar);
+    }
+
+    /** Canal que só confirma quando o teste mandar. */
+    static CanalFalso semConfirmar() {
+        return new CanalFalso(false, () -> { });
+    }
+
+    Channel getCanal() {
+        return canal;
+    }
+
+    /** Números de sequência publicados, na ordem (republicações inclusive). */
+    synchronized List<Long> getPublicadas() {
+        return new ArrayList<>(publicadas);
+    }
+
+    void confirmar(long sequencia, boolean multiplas) throws IOException {
+        aoConfirmar.handle(sequencia, multiplas);
+    }
+
+    void negar(long sequencia, boolean multiplas) throws IOException {
+        aoNegar.handle(sequencia, multiplas);
+    }
+
+    /** Fecha como se o broker tivesse derrubado o canal. */
+    void fechar() {
+        aberto = false;
+        aoFechar.shutdownCompleted(new ShutdownSignalException(false, false, null, canal));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+        switch (metodo.getName()) {
+            case "confirmSelect":
+                return null;
+            case "addConfirmListener":
+                aoConfirmar = (ConfirmCallback) argumentos[0];
+                aoNegar = (ConfirmCallback) argumentos[1];
+                return null;
+            case "addShutdownListener":
+                aoFechar = (ShutdownListener) argumentos[0];
+                return null;
+            case "getNextPublishSeqNo":
+                synchronized (this) {
+                    return proximaSequencia;
+                }
+            case "basicPublish":
+                return publicar();
+            case "isOpen":
+                return aberto;
+            case "abort":
+            case "close":
+                aberto = false;
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == argumentos[0];
+            case "toString":
+                return "CanalFalso";
+            default:
+                throw new UnsupportedOperationException(metodo.getName());
+        }
+    }
+
+    private Object publicar() throws IOException {
+        if (!aberto) {
+            throw new IOException("Canal fechado");
+        }
+        long sequencia;
+        synchronized (this) {
+            aoPublicar.run();
+            sequencia = proximaSequencia++;
+            publicadas.add(sequencia);
+        }
+        if (confirmaNaHora) {
+            aoConfirmar.handle(sequencia, false);
+        }
+        return null;
+    }
+}
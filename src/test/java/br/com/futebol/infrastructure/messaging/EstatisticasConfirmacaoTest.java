@@ -0,0 +1,70 @@
+package br.com.futebol.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EstatisticasConfirmacaoTest {
+
+    private final EstatisticasConfirmacao estatisticas = new EstatisticasConfirmacao();
+
+    @Test
+    void contaCadaDesfechoDaPublicacao() {
+        for (int i = 0; i < 5; i++) {
+            estatisticas.publicada();
+        }
+        estatisticas.naoEnviada();
+        estatisticas.confirmada(1000);
+        estatisticas.negada();
+        estatisticas.republicada();
+        estatisticas.negada();
+        estatisticas.perdida();
+
+        Map<String, Object> resumo = estatisticas.resumo();
+
+        assertEquals(4L, resumo.get("confirmacao.publicadas"));
+        assertEquals(1L, resumo.get("confirmacao.confirmadas"));
+        assertEquals(2L, resumo.get("confirmacao.negadas"));
+        assertEquals(1L, resumo.get("confirmacao.republicadas"));
+        assertEquals(1L, resumo.get("confirmacao.perdidas"));
+        assertEquals(2, resumo.get("confirmacao.emVoo"));
+        assertEquals(2, estatisticas.getEmVoo());
+    }
+
+    @Test
+    void percentisDaLatenciaEmMicrossegundos() {
+        for (int micros = 100; micros >= 1; micros--) {
+            estatisticas.publicada();
+            estatisticas.confirmada(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        Map<String, Object> resumo = estatisticas.resumo();
+
+        assertEquals(50L, resumo.get("confirmacao.latencia_p50_us"));
+        assertEquals(95L, resumo.get("confirmacao.latencia_p95_us"));
+        assertEquals(99L, resumo.get("confirmacao.latencia_p99_us"));
+    }
+
+    @Test
+    void latenciaUsaSoAsUltimasAmostras() {
+        for (int i = 0; i < 1024; i++) {
+            estatisticas.confirmada(TimeUnit.SECONDS.toNanos(1));
+        }
+        for (int i = 0; i < 1024; i++) {
+            estatisticas.confirmada(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+
+        assertEquals(10L, estatisticas.resumo().get("confirmacao.latencia_p99_us"));
+    }
+
+    @Test
+    void semConfirmacaoOsPercentisSaoZero() {
+        Map<String, Object> resumo = estatisticas.resumo();
+
+        assertEquals(0L, resumo.get("confirmacao.latencia_p50_us"));
+        assertEquals(0L, resumo.get("confirmacao.latencia_p99_us"));
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.futebol.infrastructure.messaging;
+
+import com.rabbitmq.client.AMQP;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publicações por milissegundo pelo pool de canais, com 1, 4 e 8
+ * threads publicando e o pool limitado a 1 canal (o canal único de
+ * antes) ou a 8.
+ *
+ * Os canais são {@link CanalFalso}: cada basicPublish fica
+ * {@code escritaMicros} parado com a trava do canal (o cliente AMQP
+ * segura o canal enquanto escreve os frames no socket) e é confirmado
+ * na hora. Mede o lado do cliente (pool, trava do canal, controle das
+ * confirmações), não o broker. Com 1 canal a vazão fica parada ao
+ * aumentar as threads; com 8 ela cresce com elas.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PublicacaoCanaisBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PublicacaoCanaisBenchmark {
+
+    private static final AMQP.BasicProperties PROPRIEDADES = new AMQP.BasicProperties.Builder()
+            .contentType("application/json")
+            .deliveryMode(2)
+            .build();
+
+    private static final byte[] CORPO = "{\"id\":42,\"placarA\":2,\"placarB\":1}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"1", "8"})
+    private int canais;
+
+    @Param({"20"})
+    private long escritaMicros;
+
+    private EstatisticasConfirmacao estatisticas;
+    private PoolCanais pool;
+
+    @Setup
+    public void preparar() {
+        estatisticas = new EstatisticasConfirmacao();
+        pool = new PoolCanais(canais, 5000, () -> new CanalConfirmado(
+                CanalFalso.confirmandoNaHora(
+                        () -> LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(escritaMicros))).getCanal(),
+                1000, 5000, 3, estatisticas));
+    }
+
+    @TearDown
+    public void encerrar() {
+        pool.fechar();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CompletableFuture<Void> umaThread() throws IOException {
+        return publicar();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CompletableFuture<Void> quatroThreads() throws IOException {
+        return publicar();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CompletableFuture<Void> oitoThreads() throws IOException {
+        return publicar();
+    }
+
+    /** O mesmo caminho do RabbitMQService: pega um canal, publica e devolve. */
+    private CompletableFuture<Void> publicar() throws IOException {
+        CanalConfirmado canal = pool.emprestar();
+        try {
+            return canal.publicar("jogos.futebol", "jogo.placar.atualizado", PROPRIEDADES, CORPO);
+        } finally {
+            pool.devolver(canal);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.futebol.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RelayOutboxTest {
+
+    private final RelayOutbox relay = new RelayOutbox();
+
+    @Test
+    void ficaSoOPlacarMaisNovoDeCadaJogo() {
+        List<EventoOutbox> lote = List.of(
+                placar(1, 10),
+                placar(2, 20),
+                placar(3, 10),
+                placar(4, 10));
+
+        assertEquals(List.of(2L, 4L), ids(relay.juntarPlacares(lote)));
+        assertEquals(2L, relay.obterEstatisticas().get("outbox.placaresJuntados"));
+    }
+
+    @Test
+    void outrosEventosNaoSaemNemMudamDeOrdem() {
+        List<EventoOutbox> lote = List.of(
+                evento(1, RabbitMQService.ROTA_JOGO_CRIADO, 10),
+                placar(2, 10),
+                placar(3, 10),
+                evento(4, RabbitMQService.ROTA_JOGO_ENCERRADO, 10),
+                evento(5, RabbitMQService.ROTA_JOGO_ENCERRADO, 10));
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), ids(relay.juntarPlacares(lote)));
+    }
+
+    @Test
+    void placarComPayloadIlegivelSaiComoEsta() {
+        List<EventoOutbox> lote = List.of(
+                new EventoOutbox(1L, RabbitMQService.ROTA_PLACAR_ATUALIZADO, "não é json"),
+                new EventoOutbox(2L, RabbitMQService.ROTA_PLACAR_ATUALIZADO, "{\"timeA\":\"sem id\"}"),
+                placar(3, 10));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(relay.juntarPlacares(lote)));
+        assertEquals(0L, relay.obterEstatisticas().get("outbox.placaresJuntados"));
+    }
+
+    private static EventoOutbox placar(long id, long jogoId) {
+        return evento(id, RabbitMQService.ROTA_PLACAR_ATUALIZADO, jogoId);
+    }
+
+    private static EventoOutbox evento(long id, String rota, long jogoId) {
+        return new EventoOutbox(id, rota, "{\"id\":" + jogoId + ",\"placarA\":1,\"placarB\":0}");
+    }
+
+    private static List<Long> ids(List<EventoOutbox> eventos) {
+        return eventos.stream().map(EventoOutbox::getId).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.futebol.infrastructure.repository;
+
+import br.com.futebol.application.dto.JogoDTO;
+import br.com.futebol.domain.entity.Jogo;
+import br.com.futebol.domain.enums.StatusJogo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compara a listagem por status carregando entidades (listarPorStatus
+ * mais a conversão do JogoService) com a projeção direta em JogoDTO
+ * (listarDTOPorStatus), num H2 em memória.
+ *
+ * Cada chamada roda numa transação, como no container: no caminho das
+ * entidades o commit faz o dirty checking dos snapshots. Pra ver as
+ * alocações junto da latência:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ProjecaoJogoBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjecaoJogoBenchmark {
+
+    @Param({"100", "1000"})
+    private int jogos;
+
+    private SessionFactory fabrica;
+    private EntityManager entityManager;
+    private JogoRepository repositorio;
+
+    @Setup(Level.Trial)
+    public void preparar() throws ReflectiveOperationException {
+        fabrica = new Configuration()
+                .addAnnotatedClass(Jogo.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:projecao" + jogos + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.cache.use_second_level_cache", "false")
+                .setProperty("hibernate.cache.use_query_cache", "false")
+                .setProperty("jakarta.persistence.validation.mode", "none")
+                .buildSessionFactory();
+        entityManager = fabrica.createEntityManager();
+        popular();
+
+        repositorio = new JogoRepository();
+        Field campo = JogoRepository.class.getDeclaredField("entityManager");
+        campo.setAccessible(true);
+        campo.set(repositorio, entityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        entityManager.close();
+        fabrica.close();
+    }
+
+    @Benchmark
+    public List<JogoDTO> entidades() {
+        return emTransacao(() -> repositorio.listarPorStatus(StatusJogo.EM_ANDAMENTO).stream()
+                .map(ProjecaoJogoBenchmark::converterParaDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<JogoDTO> projecao() {
+        return emTransacao(() -> repositorio.listarDTOPorStatus(StatusJogo.EM_ANDAMENTO));
+    }
+
+    private List<JogoDTO> emTransacao(Supplier<List<JogoDTO>> consulta) {
+        entityManager.getTransaction().begin();
+        try {
+            return consulta.get();
+        } finally {
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Insere os jogos por SQL (a coluna arquivado não é inserível pela entidade).
+     */
+    private void popular() {
+        LocalDateTime agora = LocalDateTime.now();
+        entityManager.getTransaction().begin();
+        for (int i = 1; i <= jogos; i++) {
+            entityManager.createNativeQuery("INSERT INTO jogos (id, time_a, time_b, placar_a, placar_b,"
+                    + " status, data_hora_partida, data_criacao, data_atualizacao, versao, arquivado)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false)")
+                .setParameter(1, (long) i)
+                .setParameter(2, "Time " + i)
+                .setParameter(3, "Time " + (i + jogos))
+                .setParameter(4, i % 5)
+                .setParameter(5, i % 3)
+                .setParameter(6, StatusJogo.EM_ANDAMENTO.name())
+                .setParameter(7, agora.minusMinutes(i))
+                .setParameter(8, agora)
+                .setParameter(9, agora)
+                .executeUpdate();
+        }
+        entityManager.getTransaction().commit();
+    }
+
+    /** Igual ao JogoService.converterParaDTO. */
+    private static JogoDTO converterParaDTO(Jogo jogo) {
+        JogoDTO dto = new JogoDTO();
+        dto.setId(jogo.getId());
+        dto.setTimeA(jogo.getTimeA());
+        dto.setTimeB(jogo.getTimeB());
+        dto.setPlacarA(jogo.getPlacarA());
+        dto.setPlacarB(jogo.getPlacarB());
+        dto.setStatus(jogo.getStatus());
+        dto.setDataHoraPartida(jogo.getDataHoraPartida());
+        dto.setDataCriacao(jogo.getDataCriacao());
+        dto.setDataAtualizacao(jogo.getDataAtualizacao());
+        dto.setVersao(jogo.getVersao());
+        return dto;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.futebol.infrastructure.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DisjuntorTest {
+
+    private final AtomicBoolean dependenciaVoltou = new AtomicBoolean();
+    private final AtomicInteger sondagens = new AtomicInteger();
+
+    private final Disjuntor disjuntor = new Disjuntor("teste", 3, 10, () -> {
+        sondagens.incrementAndGet();
+        return dependenciaVoltou.get();
+    }, null);
+
+    @AfterEach
+    void desligar() {
+        disjuntor.desligar();
+    }
+
+    @Test
+    void abreDepoisDasFalhasSeguidas() {
+        disjuntor.registrarFalha();
+        disjuntor.registrarFalha();
+        assertTrue(disjuntor.permite());
+
+        disjuntor.registrarFalha();
+
+        assertTrue(disjuntor.isAberto());
+        assertFalse(disjuntor.permite());
+        assertFalse(disjuntor.permite());
+        assertEquals(1, disjuntor.getAberturas());
+        assertEquals(2, disjuntor.getRejeitadas());
+    }
+
+    @Test
+    void sucessoZeraAsFalhasSeguidas() {
+        disjuntor.registrarFalha();
+        disjuntor.registrarFalha();
+        disjuntor.registrarSucesso();
+        disjuntor.registrarFalha();
+        disjuntor.registrarFalha();
+
+        assertFalse(disjuntor.isAberto());
+    }
+
+    @Test
+    void sucessoNaoFechaODisjuntorAberto() {
+        disjuntor.abrir("teste");
+
+        disjuntor.registrarSucesso();
+
+        assertTrue(disjuntor.isAberto());
+    }
+
+    @Test
+    void sondaFechaQuandoADependenciaVolta() throws InterruptedException {
+        disjuntor.abrir("teste");
+        esperarAte(() -> sondagens.get() >= 2);
+        assertTrue(disjuntor.isAberto());
+
+        dependenciaVoltou.set(true);
+        esperarAte(() -> !disjuntor.isAberto());
+
+        assertTrue(disjuntor.permite());
+        // Fechado pela sonda, precisa das falhas todas de novo pra abrir
+        disjuntor.registrarFalha();
+        assertFalse(disjuntor.isAberto());
+    }
+
+    @Test
+    void abrirDeNovoComEleAbertoNaoContaOutraAbertura() {
+        disjuntor.abrir("primeira");
+        disjuntor.abrir("segunda");
+        disjuntor.registrarFalha();
+
+        assertEquals(1, disjuntor.getAberturas());
+    }
+
+    @Test
+    void desligadoNaoAbreMais() {
+        disjuntor.desligar();
+
+        disjuntor.abrir("descendo");
+
+        assertFalse(disjuntor.isAberto());
+    }
+
+    private static void esperarAte(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (!condicao.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                throw new AssertionError("Condição não aconteceu em 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}